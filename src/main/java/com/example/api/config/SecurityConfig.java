@@ -4,12 +4,18 @@ import com.example.api.filter.HttpLoggingFilter;
 import com.example.api.filter.JwtAuthenticationFilter;
 import com.example.api.jwt.JwtAccessDeniedHandler;
 import com.example.api.jwt.JwtAuthenticationEntryPoint;
+import com.example.api.security.BoundedPasswordEncoder;
+import com.example.api.security.PasswordHashCalibrator;
 import com.example.api.security.PermitAllPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.security.autoconfigure.web.servlet.PathRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -21,10 +27,13 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 import static org.springframework.boot.security.autoconfigure.web.servlet.PathRequest.toStaticResources;
 
 @Configuration
@@ -86,9 +95,45 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * 해시 연산은 passwordHashExecutor 에서만 실행된다. (요청 스레드 고갈 방지)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.encoding-id:argon2}") String encodingId,
+            @Value("${security.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+            @Value("${security.password.argon2.parallelism:1}") int argon2Parallelism,
+            @Value("${security.password.argon2.iterations:2}") int argon2Iterations,
+            @Value("${security.password.bcrypt.strength:10}") int bcryptStrength,
+            @Value("${security.password.calibration.enabled:false}") boolean calibrate,
+            @Value("${security.password.calibration.target-millis:250}") long calibrationTargetMillis,
+            @Value("${security.password.calibration.argon2-max-memory-kib:65536}") int calibrationMaxMemoryKib
+    ) {
+        if (calibrate) {
+            if ("argon2".equals(encodingId)) {
+                PasswordHashCalibrator.Argon2Parameters calibrated = PasswordHashCalibrator.calibrateArgon2(
+                        argon2MemoryKib, calibrationMaxMemoryKib, argon2Parallelism, calibrationTargetMillis);
+                argon2MemoryKib = calibrated.memoryKib();
+                argon2Iterations = calibrated.iterations();
+            } else {
+                bcryptStrength = PasswordHashCalibrator.calibrateBcryptStrength(calibrationTargetMillis);
+            }
+        }
+
+        PasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "argon2", PasswordHashCalibrator.argon2(argon2MemoryKib, argon2Parallelism, argon2Iterations),
+                "bcrypt", bcrypt
+        );
+
+        // 신규 해시는 {encodingId} 접두사로 저장, 접두사 없는 기존 BCrypt 해시($2a$...)는 bcrypt 로 검증
+        // 기존 해시는 upgradeEncoding=true 가 되어 로그인 성공 시 AuthService 에서 재해시된다.
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(encodingId, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegating, passwordHashExecutor, meterRegistry);
     }
 
     @Bean
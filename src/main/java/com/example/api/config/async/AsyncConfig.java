@@ -1,5 +1,6 @@
 package com.example.api.config.async;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -39,4 +40,32 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 비밀번호 해시/검증(BCrypt 등 CPU 집약 작업) 전용 스레드 풀.
+     * <pre>
+     * - 스레드 수 = CPU 코어 수 (core = max). CPU 바운드 작업이므로 코어 수 이상 늘려도 처리량이 늘지 않는다.
+     * - 큐가 가득 차면 즉시 거절(AbortPolicy)하고, BoundedPasswordEncoder 가 503(SERVICE_BUSY)으로 변환한다.
+     * - 로그인 폭주 시에도 Tomcat 요청 스레드가 해시 연산으로 고갈되지 않도록 격리한다.
+     * </pre>
+     */
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${security.password.hash-executor.pool-size:0}") int poolSize,
+            @Value("${security.password.hash-executor.queue-capacity:64}") int queueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        // 기본 RejectedExecutionHandler(AbortPolicy) 유지: 큐 포화 시 대기 없이 TaskRejectedException
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -12,6 +12,7 @@ import com.example.api.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 인증 관련 API
  */
@@ -38,18 +41,27 @@ public class AuthController {
             ErrorCode.INVALID_INPUT_VALUE,
             ErrorCode.INVALID_CREDENTIALS,
             ErrorCode.ACCOUNT_DISABLED,
-            ErrorCode.ACCOUNT_LOCKED
+            ErrorCode.ACCOUNT_LOCKED,
+            ErrorCode.SERVICE_BUSY
     })
     @PostMapping("/login")
-    public ResponseEntity<@NonNull LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
+    public CompletableFuture<ResponseEntity<@NonNull LoginResponse>> login(
+            @Valid @RequestBody LoginRequest loginRequest,
+            @Parameter(hidden = true) HttpServletRequest httpRequest
+    ) {
+        // 실패 횟수 제한용 IP. 신뢰할 수 있는 프록시 뒤라면 server.forward-headers-strategy 로 remoteAddr 를 보정한다.
+        // (X-Forwarded-For 를 직접 읽으면 헤더 위조로 IP 제한을 우회할 수 있음)
+        String clientIp = httpRequest.getRemoteAddr();
 
-        LoginResponse response = authService.login(loginRequest);
-        HttpHeaders headers = new HttpHeaders();
-        headers.add(JwtProvider.AUTHORIZATION_HEADER, JwtProvider.TOKEN_PREFIX + response.accessToken());
+        // 비밀번호 검증은 전용 풀에서 수행되고, 요청 스레드는 비동기 처리로 반환된다.
+        return authService.loginAsync(loginRequest, clientIp).thenApply(response -> {
+            HttpHeaders headers = new HttpHeaders();
+            headers.add(JwtProvider.AUTHORIZATION_HEADER, JwtProvider.TOKEN_PREFIX + response.accessToken());
 
-        return ResponseEntity.ok()
-                .headers(headers)
-                .body(response);
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(response);
+        });
     }
 
     @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새로운 액세스 토큰과 리프레시 토큰을 발급합니다. (토큰 로테이션)")
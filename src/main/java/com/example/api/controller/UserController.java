@@ -3,19 +3,30 @@ package com.example.api.controller;
 import com.example.api.annotation.ApiErrorCodeExample;
 import com.example.api.dto.*;
 import com.example.api.exception.ErrorCode;
+import com.example.api.service.UserExportService;
+import com.example.api.service.UserImportService;
 import com.example.api.service.UserService;
 import com.example.api.util.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * 회원 관련 API
@@ -26,7 +37,15 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserController {
 
+    /**
+     * 일괄 등록 결과를 클라이언트로 flush 하는 행 간격
+     */
+    private static final int IMPORT_FLUSH_ROWS = 500;
+
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final ObjectMapper objectMapper;
 
     @Operation(
             summary = "회원가입",
@@ -38,7 +57,8 @@ public class UserController {
     @ApiErrorCodeExample({
             ErrorCode.INVALID_INPUT_VALUE,
             ErrorCode.DUPLICATE_USERNAME,
-            ErrorCode.DUPLICATE_EMAIL
+            ErrorCode.DUPLICATE_EMAIL,
+            ErrorCode.SERVICE_BUSY
     })
     @PostMapping
     public ResponseEntity<Void> signUp(@Valid @RequestBody UserCreateRequest userCreateRequest) {
@@ -62,13 +82,15 @@ public class UserController {
 
     @Operation(
             summary = "내 정보 수정",
-            description = "현재 로그인한 사용자의 이름과 이메일을 수정합니다."
+            description = "현재 로그인한 사용자의 이름과 이메일을 수정합니다. "
+                    + "조회 응답의 version 을 함께 보내면 그 사이 다른 수정이 있었을 때 409 를 반환합니다."
     )
     @ApiErrorCodeExample({
             ErrorCode.INVALID_INPUT_VALUE,
             ErrorCode.INVALID_TOKEN,
             ErrorCode.USER_NOT_FOUND,
-            ErrorCode.DUPLICATE_EMAIL
+            ErrorCode.DUPLICATE_EMAIL,
+            ErrorCode.USER_VERSION_CONFLICT
     })
     @PatchMapping("/me")
     public ResponseEntity<UserResponse> updateMyProfile(@Valid @RequestBody UserUpdateRequest request) {
@@ -77,12 +99,16 @@ public class UserController {
 
     @Operation(
             summary = "사용자 목록 조회 (관리자)",
-            description = "전체 사용자 목록을 페이지네이션으로 조회합니다. ADMIN 권한이 필요합니다."
+            description = """
+                    전체 사용자 목록을 페이지네이션으로 조회합니다. ADMIN 권한이 필요합니다.
+                    mode=CURSOR 이면 전체 개수 없이 nextCursor/prevCursor 토큰으로 이어보며, 페이지 깊이와 무관하게 응답 시간이 일정합니다.
+                    """
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "성공")
     })
     @ApiErrorCodeExample({
+            ErrorCode.INVALID_INPUT_VALUE,
             ErrorCode.INVALID_TOKEN,
             ErrorCode.ACCESS_DENIED
     })
@@ -93,4 +119,76 @@ public class UserController {
     ) {
         return ResponseEntity.ok(userService.readUsers(pageParam));
     }
+
+    @Operation(
+            summary = "회원 일괄 등록 (관리자)",
+            description = """
+                    NDJSON(application/x-ndjson) 또는 CSV(text/csv, 헤더 username,password,email,name) 본문으로 회원을 일괄 등록합니다.
+                    행 단위 결과를 NDJSON 으로 스트리밍하고, 마지막 줄에 요약({"summary": {...}})을 반환합니다. ADMIN 권한이 필요합니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공 (행 단위 실패는 결과 줄의 status=FAILED 로 전달)")
+    })
+    @ApiErrorCodeExample({
+            ErrorCode.INVALID_INPUT_VALUE,
+            ErrorCode.UNSUPPORTED_MEDIA_TYPE,
+            ErrorCode.INVALID_TOKEN,
+            ErrorCode.ACCESS_DENIED
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"}, produces = "application/x-ndjson")
+    public void importUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+
+        // 행 결과를 청크 단위로 바로 내보낸다. (응답 버퍼에 전체 결과를 모으지 않음)
+        response.setContentType(UserImportService.APPLICATION_NDJSON.toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream out = response.getOutputStream();
+
+        UserImportSummary summary = userImportService.importUsers(request.getInputStream(), contentType,
+                new Consumer<>() {
+                    private int pending;
+
+                    @Override
+                    public void accept(UserImportRowResult result) {
+                        try {
+                            writeLine(out, result);
+                            if (++pending >= IMPORT_FLUSH_ROWS) {
+                                out.flush();
+                                pending = 0;
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+                });
+        writeLine(out, Map.of("summary", summary));
+        out.flush();
+    }
+
+    @Operation(
+            summary = "회원 전체 내보내기 (관리자)",
+            description = """
+                    전체 회원을 NDJSON(기본) 또는 CSV(Accept: text/csv) 로 스트리밍합니다. ADMIN 권한이 필요합니다.
+                    페이지 조회·COUNT 없이 SQL 1회로 읽으며, Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축해 전송합니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "성공")
+    })
+    @ApiErrorCodeExample({
+            ErrorCode.INVALID_TOKEN,
+            ErrorCode.ACCESS_DENIED
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "/export", produces = {"application/x-ndjson", "text/csv"})
+    public void exportUsers(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        userExportService.exportTo(request, response);
+    }
+
+    private void writeLine(OutputStream out, Object value) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(value));
+        out.write('\n');
+    }
 }
@@ -3,25 +3,55 @@ package com.example.api.converter;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
-import java.nio.ByteBuffer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.UUID;
 
+/**
+ * UUID ↔ BINARY(16) (상위 64비트 + 하위 64비트, big-endian)
+ * <pre>
+ * - 인증된 요청마다 publicId 조회에 쓰이므로 ByteBuffer 를 만들지 않고 byte[] 를 long 뷰(VarHandle)로 직접 읽고 쓴다.
+ *   (할당은 결과 byte[] / UUID 뿐)
+ * - JDBC 로 직접 바인딩하는 곳(일괄 등록·내보내기 등)은 정적 메서드 toBytes / fromBytes 를 사용한다.
+ * </pre>
+ */
 @Converter(autoApply = false)
 public class UuidToBytesConverter implements AttributeConverter<UUID, byte[]> {
 
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
     @Override
     public byte[] convertToDatabaseColumn(UUID uuid) {
-        if (uuid == null) return null;
-        ByteBuffer bb = ByteBuffer.allocate(16);
-        bb.putLong(uuid.getMostSignificantBits());
-        bb.putLong(uuid.getLeastSignificantBits());
-        return bb.array();
+        return toBytes(uuid);
     }
 
     @Override
     public UUID convertToEntityAttribute(byte[] bytes) {
-        if (bytes == null || bytes.length != 16) return null;
-        ByteBuffer bb = ByteBuffer.wrap(bytes);
-        return new UUID(bb.getLong(), bb.getLong());
+        return fromBytes(bytes);
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        byte[] bytes = new byte[16];
+        LONGS.set(bytes, 0, uuid.getMostSignificantBits());
+        LONGS.set(bytes, 8, uuid.getLeastSignificantBits());
+        return bytes;
+    }
+
+    /**
+     * @return UUID, null 이면 null
+     * @throws IllegalArgumentException 16바이트가 아닌 경우 (손상된 컬럼 값을 null 로 숨기지 않음)
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("UUID column must be 16 bytes but was " + bytes.length);
+        }
+        return new UUID((long) LONGS.get(bytes, 0), (long) LONGS.get(bytes, 8));
     }
 }
@@ -0,0 +1,78 @@
+package com.example.api.dto;
+
+import com.example.api.exception.BusinessException;
+import com.example.api.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션의 이어보기 위치.
+ * <pre>
+ * - 클라이언트에는 불투명 토큰(base64url)으로만 노출한다. 형식: v1|{sort}|{direction}|{F|B}|{key}
+ * - 정렬 기준·방향을 토큰에 포함하므로 커서로 이어볼 때는 요청의 sort/direction 대신 토큰 값을 따른다.
+ * - key 가 null 이면 첫 페이지(정렬 순서의 처음부터)를 뜻한다.
+ * - 서명하지 않는다. 변조해도 조회 시작 위치만 바뀔 뿐 접근 범위는 같다.
+ * </pre>
+ *
+ * @param sort      정렬 기준 이름 (SortField)
+ * @param direction 정렬 방향
+ * @param backward  true 면 key 이전 페이지(역방향), false 면 key 다음 페이지
+ * @param key       직전 페이지 경계 행의 정렬 키 (첫 페이지면 null)
+ */
+public record PageCursor(String sort, PageParam.Direction direction, boolean backward, String key) {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    public static PageCursor first(String sort, PageParam.Direction direction) {
+        return new PageCursor(sort, direction, false, null);
+    }
+
+    /**
+     * @return key 다음 행부터 이어보는 커서
+     */
+    public PageCursor after(String key) {
+        return new PageCursor(sort, direction, false, key);
+    }
+
+    /**
+     * @return key 이전 행들을 역방향으로 보는 커서
+     */
+    public PageCursor before(String key) {
+        return new PageCursor(sort, direction, true, key);
+    }
+
+    public boolean isFirst() {
+        return key == null;
+    }
+
+    /**
+     * @return 실제 조회 순서가 오름차순인지 (역방향이면 정렬 방향을 뒤집어 조회 후 결과를 다시 뒤집는다)
+     */
+    public boolean ascendingScan() {
+        return (direction == PageParam.Direction.ASC) != backward;
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sort, direction.name(), backward ? "B" : "F", key == null ? "" : key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws BusinessException INVALID_INPUT_VALUE - 형식이 올바르지 않은 토큰
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 5);
+            if (parts.length != 5 || !VERSION.equals(parts[0]) || !("F".equals(parts[3]) || "B".equals(parts[3]))) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            return new PageCursor(parts[1], PageParam.Direction.valueOf(parts[2]), "B".equals(parts[3]),
+                    parts[4].isEmpty() ? null : parts[4]);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -13,7 +13,8 @@ import org.springframework.data.domain.Sort;
  * 페이지네이션 공통 요청 파라미터 베이스 클래스.
  * <p>
  * JPA: {@code toPageable(sortProperty)} 또는 서브클래스의 {@code toPageable()} 사용<br>
- * MyBatis: {@code getPage()}, {@code getSize()}, {@code getDirection()} 직접 사용
+ * MyBatis: {@code getPage()}, {@code getSize()}, {@code getDirection()} 직접 사용<br>
+ * 커서 모드: {@code mode=CURSOR} 또는 {@code cursor} 지정 시 page 대신 커서로 이어본다. (COUNT·OFFSET 없음)
  * </p>
  */
 @Getter
@@ -32,6 +33,30 @@ public abstract class PageParam {
     @Schema(description = "정렬 방향", example = "DESC", defaultValue = "DESC")
     private Direction direction = Direction.DESC;
 
+    @Schema(description = "전체 개수(totalElements/totalPages) 포함 여부 (OFFSET 모드 전용). false 면 COUNT 없이 다음 페이지 존재 여부만 반환", example = "false", defaultValue = "false")
+    private boolean withTotal = false;
+
+    @Schema(description = "페이지네이션 방식 (OFFSET: page 번호, CURSOR: 이어보기 토큰)", example = "OFFSET", defaultValue = "OFFSET")
+    private Mode mode = Mode.OFFSET;
+
+    @Schema(description = "이어보기 토큰 (응답의 nextCursor/prevCursor). 지정하면 CURSOR 모드로 동작하며 page/sort/direction 은 무시된다.")
+    private String cursor;
+
+    public enum Mode {OFFSET, CURSOR}
+
+    public boolean isCursorMode() {
+        return mode == Mode.CURSOR || (cursor != null && !cursor.isBlank());
+    }
+
+    /**
+     * 커서 모드의 현재 위치. cursor 가 없으면 지정한 정렬 기준·방향의 첫 페이지.
+     */
+    protected PageCursor toCursor(String sortName) {
+        return cursor != null && !cursor.isBlank()
+                ? PageCursor.decode(cursor)
+                : PageCursor.first(sortName, direction);
+    }
+
     public enum Direction {
         ASC, DESC;
 
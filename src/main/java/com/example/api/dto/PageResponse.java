@@ -2,32 +2,46 @@ package com.example.api.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
+/**
+ * 페이지네이션 응답 DTO.
+ * <p>
+ * OFFSET 모드: page 포함, totalElements/totalPages 는 withTotal=true 일 때만 포함<br>
+ * CURSOR 모드: page/totalElements/totalPages 는 null, nextCursor/prevCursor 로 이어본다.
+ * </p>
+ */
 @Schema(description = "페이지네이션 응답 DTO")
 public record PageResponse<T>(
 
         @Schema(description = "현재 페이지 데이터 목록")
         List<T> content,
 
-        @Schema(description = "현재 페이지 번호 (1부터 시작)", example = "1")
-        int page,
+        @Schema(description = "현재 페이지 번호 (1부터 시작, CURSOR 모드에서는 null)", example = "1")
+        Integer page,
 
         @Schema(description = "페이지 당 데이터 수", example = "20")
         int size,
 
-        @Schema(description = "전체 데이터 수", example = "100")
-        long totalElements,
+        @Schema(description = "전체 데이터 수 (withTotal=false 또는 CURSOR 모드에서는 null)", example = "100")
+        Long totalElements,
 
-        @Schema(description = "전체 페이지 수", example = "5")
-        int totalPages,
+        @Schema(description = "전체 페이지 수 (withTotal=false 또는 CURSOR 모드에서는 null)", example = "5")
+        Integer totalPages,
 
         @Schema(description = "첫 페이지 여부", example = "true")
         boolean first,
 
         @Schema(description = "마지막 페이지 여부", example = "false")
-        boolean last
+        boolean last,
+
+        @Schema(description = "다음 페이지 이어보기 토큰 (CURSOR 모드, 마지막 페이지면 null)")
+        String nextCursor,
+
+        @Schema(description = "이전 페이지 이어보기 토큰 (CURSOR 모드, 첫 페이지면 null)")
+        String prevCursor
 ) {
     public static <T> PageResponse<T> from(Page<T> page) {
         return new PageResponse<>(
@@ -37,7 +51,40 @@ public record PageResponse<T>(
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast()
+                page.isLast(),
+                null,
+                null
+        );
+    }
+
+    /**
+     * 전체 개수 없이 다음 페이지 존재 여부만 반환
+     */
+    public static <T> PageResponse<T> from(Slice<T> slice) {
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber() + 1,
+                slice.getSize(),
+                null,
+                null,
+                slice.isFirst(),
+                slice.isLast(),
+                null,
+                null
+        );
+    }
+
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, PageCursor next, PageCursor prev) {
+        return new PageResponse<>(
+                content,
+                null,
+                size,
+                null,
+                null,
+                prev == null,
+                next == null,
+                next == null ? null : next.encode(),
+                prev == null ? null : prev.encode()
         );
     }
 }
@@ -6,7 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 @Schema(description = "토큰 갱신 요청 DTO")
 public record RefreshRequest(
         @NotBlank
-        @Schema(description = "리프레시 토큰", example = "550e8400-e29b-41d4", requiredMode = Schema.RequiredMode.REQUIRED)
+        @Schema(description = "리프레시 토큰", example = "v1.a1.3q2-7wQ9mF1xK0ZbYk5yW2cT8hN4rL6pJ0sV9uA1eGd", requiredMode = Schema.RequiredMode.REQUIRED)
         String refreshToken
 ) {
 }
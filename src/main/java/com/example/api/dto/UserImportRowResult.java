@@ -0,0 +1,40 @@
+package com.example.api.dto;
+
+import com.example.api.exception.ErrorCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 회원 일괄 등록 행 단위 결과 (NDJSON 한 줄)
+ */
+@Schema(description = "회원 일괄 등록 행 결과")
+public record UserImportRowResult(
+
+        @Schema(description = "입력 행 번호 (1부터, CSV 는 헤더 포함)", example = "2")
+        long line,
+
+        @Schema(description = "처리 결과", example = "CREATED")
+        Status status,
+
+        @Schema(description = "로그인 아이디 (파싱 실패 시 null)", example = "testuser")
+        String username,
+
+        @Schema(description = "실패 시 에러 코드", example = "U001")
+        String code,
+
+        @Schema(description = "실패 사유", example = "이미 사용 중인 아이디입니다.")
+        String message
+) {
+    public enum Status {CREATED, FAILED}
+
+    public static UserImportRowResult created(long line, String username) {
+        return new UserImportRowResult(line, Status.CREATED, username, null, null);
+    }
+
+    public static UserImportRowResult failed(long line, String username, ErrorCode errorCode) {
+        return failed(line, username, errorCode, errorCode.getMessage());
+    }
+
+    public static UserImportRowResult failed(long line, String username, ErrorCode errorCode, String message) {
+        return new UserImportRowResult(line, Status.FAILED, username, errorCode.getCode(), message);
+    }
+}
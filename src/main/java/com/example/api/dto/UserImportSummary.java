@@ -0,0 +1,30 @@
+package com.example.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 회원 일괄 등록 요약 (NDJSON 마지막 줄, {"summary": {...}})
+ */
+@Schema(description = "회원 일괄 등록 요약")
+public record UserImportSummary(
+
+        @Schema(description = "처리한 행 수", example = "10000")
+        long total,
+
+        @Schema(description = "등록 성공 행 수", example = "9990")
+        long created,
+
+        @Schema(description = "실패 행 수", example = "10")
+        long failed,
+
+        @Schema(description = "소요 시간(ms)", example = "12500")
+        long elapsedMillis,
+
+        @Schema(description = "처리량 (행/초)", example = "800.0")
+        double rowsPerSecond
+) {
+    public static UserImportSummary of(long total, long created, long elapsedMillis) {
+        double rowsPerSecond = elapsedMillis > 0 ? Math.round(total * 10_000.0 / elapsedMillis) / 10.0 : total;
+        return new UserImportSummary(total, created, total - created, elapsedMillis, rowsPerSecond);
+    }
+}
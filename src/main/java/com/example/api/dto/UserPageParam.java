@@ -1,15 +1,23 @@
 package com.example.api.dto;
 
+import com.example.api.exception.BusinessException;
+import com.example.api.exception.ErrorCode;
+import com.example.api.repository.UserSearchCondition;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * 사용자 목록 조회 페이지네이션 요청 파라미터.
  * <p>
  * 정렬 가능한 필드는 {@link SortField} 에 열거하며,
- * 실제 컬럼명은 {@code property} 필드로 매핑된다.
+ * 실제 컬럼명은 {@code property} 필드로 매핑된다.<br>
+ * 필터는 커서에 포함되지 않으므로 CURSOR 모드로 이어볼 때도 같은 필터를 함께 보내야 한다.
  * </p>
  */
 @Getter
@@ -19,17 +27,66 @@ public class UserPageParam extends PageParam {
     @Schema(description = "정렬 기준", example = "ID", defaultValue = "ID")
     private SortField sort = SortField.ID;
 
+    @Schema(description = "아이디 접두사 필터", example = "user")
+    private String username;
+
+    @Schema(description = "이메일 도메인 필터 (대소문자 무시)", example = "gmail.com")
+    private String emailDomain;
+
+    @Schema(description = "권한 필터", example = "ADMIN")
+    private UserRole role;
+
+    @Schema(description = "가입일 하한 (포함)", example = "2025-01-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @Schema(description = "가입일 상한 (미포함)", example = "2026-01-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
     public Pageable toPageable() {
         return toPageable(sort.property);
     }
 
+    /**
+     * @throws com.example.api.exception.BusinessException INVALID_INPUT_VALUE - 커서의 정렬 기준이 지원되지 않음
+     */
+    public PageCursor toCursor() {
+        PageCursor pageCursor = toCursor(sort.name());
+        try {
+            SortField.valueOf(pageCursor.sort());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
+        return pageCursor;
+    }
+
+    /**
+     * 빈 문자열 필터는 제외하고, 이메일 도메인은 '@' 를 떼고 소문자로 맞춘다.
+     */
+    public UserSearchCondition toCondition() {
+        String domain = emailDomain == null || emailDomain.isBlank() ? null
+                : emailDomain.strip().replaceFirst("^@", "").toLowerCase(Locale.ROOT);
+        return new UserSearchCondition(
+                username == null || username.isBlank() ? null : username.strip(),
+                domain,
+                role,
+                createdFrom,
+                createdTo);
+    }
+
     public enum SortField {
-        ID("id");
+        ID("id"),
+        CREATE_DATE("createDate");
 
         private final String property;
 
         SortField(String property) {
             this.property = property;
         }
+
+        public String property() {
+            return property;
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.example.api.dto;
 
 import com.example.api.entity.User;
+import com.example.api.repository.UserProfileRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
@@ -50,7 +51,13 @@ public record UserResponse(
                 example = "2023-07-20T12:34:56",
                 requiredMode = REQUIRED
         )
-        LocalDateTime createDate
+        LocalDateTime createDate,
+        @Schema(
+                description = "수정 버전 (내 정보 수정 시 함께 보내면 그 사이 다른 수정이 있었을 때 409 로 거절)",
+                example = "0",
+                requiredMode = REQUIRED
+        )
+        Long version
 ) {
     public static UserResponse from(User user) {
         Set<String> userRoles = user.getRoles().stream()
@@ -64,6 +71,26 @@ public record UserResponse(
                 .email(user.getEmail())
                 .roles(userRoles)
                 .createDate(user.getCreateDate())
+                .version(user.getVersion())
+                .build();
+    }
+
+    /**
+     * 조회 전용 프로젝션에서 변환 (엔티티 미사용 경로)
+     */
+    public static UserResponse from(UserProfileRow row) {
+        Set<String> userRoles = row.roles().stream()
+                .map(UserRole::authority)
+                .collect(Collectors.toSet());
+
+        return UserResponse.builder()
+                .id(row.publicId().toString())
+                .username(row.username())
+                .name(row.name())
+                .email(row.email())
+                .roles(userRoles)
+                .createDate(row.createDate())
+                .version(row.version())
                 .build();
     }
 }
@@ -3,6 +3,7 @@ package com.example.api.dto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 
 import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
@@ -24,6 +25,13 @@ public record UserUpdateRequest(
         )
         @NotBlank
         @Size(min = 2, max = 20)
-        String name
+        String name,
+
+        @Schema(
+                description = "조회 시 받은 수정 버전 (선택). 보내면 버전이 같을 때만 수정하고, 다르면 409 USER_VERSION_CONFLICT",
+                example = "0"
+        )
+        @PositiveOrZero
+        Long version
 ) {
 }
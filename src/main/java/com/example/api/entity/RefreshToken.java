@@ -10,22 +10,36 @@ import java.time.Instant;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "refresh_tokens")
+@Table(
+        name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at, id")
+        }
+)
 public class RefreshToken {
 
+    /**
+     * id 시퀀스 (User 와 같은 pooled-lo 방식, JDBC 직접 INSERT 는 SequenceIdAllocator 사용)
+     */
+    public static final String ID_SEQUENCE = "refresh_tokens_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 36)
+    // v1.{keyId}.{base64url 256bit} (최대 3 + 9 + 43 = 55자, RefreshTokenGenerator 참고)
+    @Column(nullable = false, unique = true, length = 64)
     private String token;
 
     // DB 저장 시 조인 효율을 위해 내부 PK(Long) 사용
     // Redis 저장 시에는 publicId(UUID)를 사용 (RedisRefreshTokenStore 참고)
-    @Column(nullable = false)
+    @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(nullable = false)
+    @Column(name = "expires_at", nullable = false)
     private Instant expiresAt;
 
     public static RefreshToken create(String token, Long userId, Instant expiresAt) {
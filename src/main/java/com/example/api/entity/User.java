@@ -8,38 +8,90 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 import java.util.UUID;
 
 @Entity
 @Getter
+@DynamicUpdate  // 변경된 컬럼만 UPDATE (프로필 수정 시 비밀번호 등 다른 컬럼을 다시 쓰지 않음)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "users")
+@Table(
+        name = "users",
+        uniqueConstraints = {
+                @UniqueConstraint(name = User.UK_USERNAME, columnNames = "username"),
+                @UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+                // 인증된 요청의 회원 조회 키 (findByPublicId 등)
+                @UniqueConstraint(name = "uk_users_public_id", columnNames = "public_id")
+        },
+        indexes = {
+                // 가입일 범위 필터 + 가입일 정렬 (keyset: create_date, id)
+                @Index(name = "idx_users_create_date", columnList = "create_date, id"),
+                // 이메일 도메인 필터 (email LIKE '%@도메인' 은 인덱스를 탈 수 없어 도메인을 별도 컬럼으로 저장)
+                @Index(name = "idx_users_email_domain", columnList = "email_domain, id")
+        }
+)
 public class User extends BaseTime {
 
+    /**
+     * 유니크 제약조건 이름 (INSERT/UPDATE 충돌 시 어느 컬럼이 중복인지 판별하는 데 사용)
+     */
+    public static final String UK_USERNAME = "uk_users_username";
+    public static final String UK_EMAIL = "uk_users_email";
+
+    /**
+     * id 시퀀스. 한 번의 시퀀스 호출로 ID_ALLOCATION_SIZE 개의 id 를 확보한다. (pooled-lo)
+     * JDBC 로 직접 INSERT 할 때도 같은 값으로 SequenceIdAllocator 를 사용해야 한다.
+     */
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * 내부 시스템용 기본 키
+     * <pre>
+     * - IDENTITY 는 INSERT 를 즉시 실행해야 id 를 알 수 있어 JDBC 배치가 꺼진다.
+     *   시퀀스로 id 를 미리 확보해 persist 를 flush 시점까지 미루고 배치 INSERT 한다. (hibernate.jdbc.batch_size)
+     * </pre>
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
      * 외부 노출/연동용 식별자(UUIDv7)
+     * <pre>
+     * - BINARY(16) 고정 길이로 저장한다. (문자열 36바이트 대비 인덱스 크기 절반 이하)
+     * - UUIDv7 은 앞부분이 시각이므로 새 값이 인덱스 끝에 추가되어 무작위 UUID(v4)보다 페이지 분할이 적다.
+     * </pre>
      */
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false, length = 16)
+    @JdbcTypeCode(SqlTypes.BINARY)
     @Convert(converter = UuidToBytesConverter.class)
     private UUID publicId;
 
     /**
      * 로그인용 아이디
      */
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String username;
 
+    /**
+     * 낙관적 잠금 버전. 엔티티 수정 시 UPDATE ... WHERE version = ? 로 동시 수정을 감지한다.
+     * JDBC 로 직접 INSERT 하는 경로(일괄 등록·data.sql)는 컬럼 기본값 0 을 사용한다.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * 암호화된 비밀번호
      */
@@ -55,9 +107,15 @@ public class User extends BaseTime {
     /**
      * 이메일 주소
      */
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
+    /**
+     * 이메일 도메인 (소문자, 도메인 필터용). email 과 함께만 변경된다.
+     */
+    @Column(nullable = false)
+    private String emailDomain;
+
     /**
      * 사용자의 권한(역할)
      * <pre>
@@ -70,7 +128,9 @@ public class User extends BaseTime {
     @CollectionTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
-            uniqueConstraints = @UniqueConstraint(name = "uk_user_roles_user_id_role", columnNames = {"user_id", "role"})
+            uniqueConstraints = @UniqueConstraint(name = "uk_user_roles_user_id_role", columnNames = {"user_id", "role"}),
+            // 권한 필터 (권한 → 회원 id). 회원별 권한 조회는 유니크 제약조건 인덱스(user_id, role)를 사용
+            indexes = @Index(name = "idx_user_roles_role", columnList = "role, user_id")
     )
     @Enumerated(EnumType.STRING)
     @Column(name = "role", nullable = false, length = 50)
@@ -104,6 +164,7 @@ public class User extends BaseTime {
         this.password = password;
         this.name = name;
         this.email = email;
+        this.emailDomain = emailDomainOf(email);
     }
 
     /**
@@ -127,6 +188,14 @@ public class User extends BaseTime {
     public void update(String name, String email) {
         this.name = name;
         this.email = email;
+        this.emailDomain = emailDomainOf(email);
+    }
+
+    /**
+     * @return '@' 뒤 도메인 (소문자)
+     */
+    public static String emailDomainOf(String email) {
+        return email.substring(email.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
     }
 
     /**
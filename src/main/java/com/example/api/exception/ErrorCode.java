@@ -13,11 +13,15 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C004", "지원하지 않는 HTTP 메서드입니다."),
     UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "C005", "지원하지 않는 미디어 타입입니다."),
     ENDPOINT_NOT_FOUND(HttpStatus.NOT_FOUND, "C006", "요청하신 API 경로가 존재하지 않습니다."),
+    /** 전용 작업 풀(비밀번호 해시 등) 포화. Retry-After 헤더와 함께 응답 */
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C007", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // USER
     DUPLICATE_USERNAME(HttpStatus.CONFLICT, "U001", "이미 사용 중인 아이디입니다."),
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "U002", "사용자를 찾을 수 없습니다."),
     DUPLICATE_EMAIL(HttpStatus.CONFLICT, "U003", "이미 사용 중인 이메일 주소입니다."),
+    /** 조회 이후 다른 요청이 먼저 수정함 (낙관적 잠금 충돌) */
+    USER_VERSION_CONFLICT(HttpStatus.CONFLICT, "U004", "다른 요청이 먼저 회원 정보를 수정했습니다. 다시 조회한 후 시도해주세요."),
 
     // AUTHENTICATION
     /** 포괄적인 인증 실패 */
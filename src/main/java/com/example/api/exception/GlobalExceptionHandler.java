@@ -47,6 +47,11 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     private final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    /**
+     * 503 응답 시 클라이언트에 안내할 재시도 대기 시간(초)
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
     /**
      * <code>@Valid</code> 유효성 검증 실패 시 발생하는 예외를 처리합니다. (400 Bad Request)
      * 상세한 유효성 검증 실패 메시지를 추출하여 응답에 포함시킵니다.
@@ -303,6 +308,7 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
     /**
      * 애플리케이션의 비즈니스 로직에서 발생하는 예외(BusinessException)를 처리합니다.
      * ErrorCode에 정의된 HTTP 상태 코드와 메시지를 반환합니다.
+     * 503(Service Unavailable) 인 경우 Retry-After 헤더를 함께 반환합니다.
      */
     @ExceptionHandler(BusinessException.class)
     protected ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex, HttpServletRequest request) {
@@ -316,9 +322,20 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 ex.getClass().getSimpleName()
         );
 
-        return ResponseEntity
-                .status(errorCode.getStatus())
-                .body(ErrorResponse.of(request, errorCode));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(errorCode.getStatus());
+        if (errorCode.getStatus() == HttpStatus.SERVICE_UNAVAILABLE) {
+            builder.header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        return builder.body(ErrorResponse.of(request, errorCode));
+    }
+
+    /**
+     * 커밋된 스트리밍 응답의 실패는 처리하지 않고 다시 던집니다.
+     * 컨테이너가 응답을 정상 종료하지 않고 연결을 끊게 합니다. (로깅은 발생 지점에서 수행)
+     */
+    @ExceptionHandler(ResponseAbortedException.class)
+    protected void handleResponseAborted(ResponseAbortedException ex) {
+        throw ex;
     }
 
     /**
@@ -0,0 +1,13 @@
+package com.example.api.exception;
+
+/**
+ * 응답을 이미 클라이언트로 보내기 시작한 뒤(커밋 후) 실패한 스트리밍 응답.
+ * 오류 응답 본문을 쓸 수 없으므로 GlobalExceptionHandler 가 처리하지 않고 컨테이너까지 전파해 연결을 끊는다.
+ * (잘린 응답이 정상 종료된 응답으로 보이지 않게 함)
+ */
+public class ResponseAbortedException extends RuntimeException {
+
+    public ResponseAbortedException(Throwable cause) {
+        super(cause.getMessage(), cause);
+    }
+}
@@ -21,6 +21,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -34,6 +35,19 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
     private static final int REQUEST_BODY_MAX_BYTES = 10_240;
     private static final int BODY_LOG_MAX_CHARS = 2_000;
 
+    /**
+     * 스트리밍 요청/응답 미디어 타입. 래퍼가 body 를 메모리에 모으지 않도록 래핑하지 않는다. (body 로깅 제외)
+     */
+    private static final List<String> STREAMING_MEDIA_TYPES = List.of("application/x-ndjson", "text/csv");
+
+    /**
+     * Accept 없이도 스트리밍으로 응답하는 엔드포인트 경로 (컨텍스트 경로 제외, 정확히 일치할 때만)
+     * 접미사로 비교하면 일반 응답을 돌려주는 다른 경로까지 body 로깅에서 빠지므로, 스트리밍 엔드포인트를 추가할 때 여기에 등록한다.
+     */
+    private static final Set<String> STREAMING_PATHS = Set.of(
+            "/api/v1/users/export"      // UserController#exportUsers (기본 NDJSON)
+    );
+
     private static final Set<String> LOGGED_HEADERS = Set.of(
             "content-type", "accept", "user-agent", "origin", "authorization"
     );
@@ -73,8 +87,10 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
         // MDC는 스레드 로컬이므로 매 디스패치마다 설정
         MDC.put(MDC_REQUEST_ID_KEY, (String) request.getAttribute(REQUEST_ID_ATTR));
 
-        ContentCachingRequestWrapper req = wrapRequest(request);
-        ContentCachingResponseWrapper res = wrapResponse(response);
+        // 스트리밍(NDJSON/CSV 일괄 등록·내보내기)은 래핑하지 않는다. 응답 래퍼는 전체 body 를 버퍼링한 뒤 한 번에 내보내기 때문
+        boolean streaming = isStreaming(request);
+        HttpServletRequest req = streaming ? request : wrapRequest(request);
+        HttpServletResponse res = streaming ? response : wrapResponse(response);
 
         Throwable thrown = null;
         try {
@@ -112,11 +128,15 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
 
                     if (status >= 400) {
                         sb.append(" headers=").append(readHeaders(req));
-                        String reqBody = readBody(req.getContentAsByteArray(), req.getContentType());
-                        if (!reqBody.isEmpty()) {
-                            sb.append(" reqBody=").append(reqBody);
+                        if (req instanceof ContentCachingRequestWrapper cachedReq) {
+                            String reqBody = readBody(cachedReq.getContentAsByteArray(), req.getContentType());
+                            if (!reqBody.isEmpty()) {
+                                sb.append(" reqBody=").append(reqBody);
+                            }
+                        }
+                        if (res instanceof ContentCachingResponseWrapper cachedRes) {
+                            sb.append(" resBody=").append(readBody(cachedRes.getContentAsByteArray(), res.getContentType()));
                         }
-                        sb.append(" resBody=").append(readBody(res.getContentAsByteArray(), res.getContentType()));
                     }
 
                     String line = sb.toString();
@@ -130,7 +150,9 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
                     }
                 }
             } finally {
-                res.copyBodyToResponse();
+                if (res instanceof ContentCachingResponseWrapper cachedRes) {
+                    cachedRes.copyBodyToResponse();
+                }
                 MDC.remove(MDC_REQUEST_ID_KEY);
             }
         }
@@ -181,6 +203,18 @@ public class HttpLoggingFilter extends OncePerRequestFilter {
         return value;
     }
 
+    private boolean isStreaming(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (STREAMING_PATHS.contains(path)) {
+            return true;
+        }
+        String contentType = request.getContentType();
+        String accept = request.getHeader("Accept");
+        return STREAMING_MEDIA_TYPES.stream().anyMatch(type ->
+                (contentType != null && contentType.toLowerCase().startsWith(type))
+                        || (accept != null && accept.toLowerCase().contains(type)));
+    }
+
     private ContentCachingRequestWrapper wrapRequest(HttpServletRequest request) {
         if (request instanceof ContentCachingRequestWrapper wrapper) return wrapper;
         return new ContentCachingRequestWrapper(request, REQUEST_BODY_MAX_BYTES);
@@ -2,6 +2,8 @@ package com.example.api.filter;
 
 import com.example.api.exception.ErrorCode;
 import com.example.api.jwt.JwtProvider;
+import com.example.api.security.session.SessionRevocations;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -17,6 +19,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.UUID;
 
 /**
  * JWT 토큰을 검증하고, 유효한 경우 Spring Security의 SecurityContext에 인증 정보를 설정하는 필터입니다.
@@ -28,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     public static final String EXCEPTION_ATTRIBUTE_KEY = "exception";
     private final JwtProvider jwtProvider;
+    private final SessionRevocations sessionRevocations;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -37,11 +41,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(token)) {
             try {
-                jwtProvider.getClaims(token);
+                Claims claims = jwtProvider.getClaims(token);
 
-                // 예외가 발생하지 않았다면, 토큰이 유효한 것이므로 인증 정보를 설정합니다.
-                Authentication authentication = jwtProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (sessionRevocations.isRevoked(UUID.fromString(claims.getSubject()), claims.getIssuedAt())) {
+                    // 전체 로그아웃 이전에 발급된 토큰 (SessionEvent.Type#revokesAccessTokens)
+                    request.setAttribute(EXCEPTION_ATTRIBUTE_KEY, ErrorCode.INVALID_TOKEN);
+                } else {
+                    // 예외가 발생하지 않았다면, 토큰이 유효한 것이므로 인증 정보를 설정합니다.
+                    Authentication authentication = jwtProvider.getAuthentication(token);
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             } catch (ExpiredJwtException e) {
                 // 만료된 토큰 예외 처리
                 request.setAttribute(EXCEPTION_ATTRIBUTE_KEY, ErrorCode.TOKEN_EXPIRED);
@@ -71,10 +71,19 @@ public class JwtProvider {
      * @return AccessToken
      */
     public String generateAccessToken(Authentication authentication) {
-        UUID publicId = extractPublicId(authentication);
+        return generateAccessToken(extractPublicId(authentication), authentication.getAuthorities());
+    }
 
+    /**
+     * AccessToken 생성 (인증 객체 없이 publicId + 권한만으로 발급, 토큰 갱신용)
+     *
+     * @param publicId    회원 공개아이디
+     * @param authorities 권한
+     * @return AccessToken
+     */
+    public String generateAccessToken(UUID publicId, Collection<? extends GrantedAuthority> authorities) {
         // 권한
-        String roles = authentication.getAuthorities().stream()
+        String roles = authorities.stream()
                 .map(GrantedAuthority::getAuthority)
                 .filter(a -> a != null && a.startsWith("ROLE_"))
                 .distinct()
@@ -136,8 +145,8 @@ public class JwtProvider {
 
         Object principal = authentication.getPrincipal();
 
-        if (principal instanceof UserDetailsImpl(com.example.api.entity.User user)) {
-            return user.getPublicId();
+        if (principal instanceof UserDetailsImpl userDetails) {
+            return userDetails.publicId();
         }
 
         throw new IllegalStateException(
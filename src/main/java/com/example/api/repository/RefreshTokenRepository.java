@@ -1,15 +1,86 @@
 package com.example.api.repository;
 
 import com.example.api.entity.RefreshToken;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
+    /**
+     * 토큰과 소유자 publicId 조회 (refresh_tokens ⋈ users 단일 쿼리)
+     */
+    @Query("""
+            select rt.token as token, u.publicId as publicId, rt.expiresAt as expiresAt
+            from RefreshToken rt
+            join User u on u.id = rt.userId
+            where rt.token = :token
+            """)
+    Optional<TokenOwner> findTokenOwner(@Param("token") String token);
 
-    void deleteByToken(String token);
+    /**
+     * 토큰 삭제 (파생 deleteBy* 와 달리 엔티티를 로딩하지 않는 단일 DELETE)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.token = :token")
+    int deleteByToken(@Param("token") String token);
 
-    void deleteByUserId(Long userId);
+    /**
+     * 사용자의 모든 토큰 삭제 (publicId → user_id 변환을 서브쿼리로 처리하는 단일 DELETE)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.userId = (select u.id from User u where u.publicId = :publicId)")
+    int deleteByPublicId(@Param("publicId") UUID publicId);
+
+    /**
+     * 만료된 토큰의 (expiresAt, id) 키를 만료 시각 순으로 조회 (keyset 페이지네이션)
+     * <pre>
+     * - expires_at 인덱스를 따라 직전 배치의 마지막 키 이후부터 범위 스캔한다.
+     * - 삭제되었지만 아직 정리되지 않은 인덱스 엔트리를 매 배치마다 처음부터 다시 훑지 않도록 한다.
+     * </pre>
+     */
+    @Query("""
+            select rt.id as id, rt.expiresAt as expiresAt
+            from RefreshToken rt
+            where rt.expiresAt < :now
+              and (rt.expiresAt > :lastExpiresAt or (rt.expiresAt = :lastExpiresAt and rt.id > :lastId))
+            order by rt.expiresAt, rt.id
+            """)
+    List<ExpiredTokenKey> findExpiredKeys(@Param("now") Instant now,
+                                          @Param("lastExpiresAt") Instant lastExpiresAt,
+                                          @Param("lastId") Long lastId,
+                                          Limit limit);
+
+    /**
+     * id 목록으로 일괄 삭제 (엔티티 로딩 없이 단일 DELETE)
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken rt where rt.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface TokenOwner {
+        String getToken();
+
+        UUID getPublicId();
+
+        Instant getExpiresAt();
+    }
+
+    interface ExpiredTokenKey {
+        Long getId();
+
+        Instant getExpiresAt();
+    }
 }
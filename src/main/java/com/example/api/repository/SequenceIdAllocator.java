@@ -0,0 +1,47 @@
+package com.example.api.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC 로 직접 INSERT 하는 경로(일괄 등록·refresh token write-behind)의 id 발급.
+ * <pre>
+ * - 엔티티와 같은 시퀀스를 pooled-lo 방식으로 사용한다. (hibernate.id.optimizer.pooled.preferred=pooled-lo)
+ *   시퀀스 값 v 1개가 id 블록 [v, v + allocationSize) 를 뜻하므로, Hibernate 가 발급하는 id 와 겹치지 않는다.
+ * - count 건에 필요한 블록 수만큼만 시퀀스를 호출한다. (allocationSize 건당 1회)
+ * - 시퀀스 호출 SQL 은 현재 DB 방언에서 얻는다.
+ * </pre>
+ */
+@Component
+public class SequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    /**
+     * @param allocationSize 엔티티 @SequenceGenerator 의 allocationSize 와 같아야 한다.
+     * @return count 개의 새 id (오름차순)
+     */
+    public List<Long> allocate(String sequenceName, int allocationSize, int count) {
+        String sql = dialect.getSequenceSupport().getSequenceNextValString(sequenceName);
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Long blockStart = jdbcTemplate.queryForObject(sql, Long.class);
+            for (int i = 0; i < allocationSize && ids.size() < count; i++) {
+                ids.add(blockStart + i);
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.api.repository;
+
+import com.example.api.dto.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 회원 조회 전용 프로젝션 (엔티티 미생성).
+ * <pre>
+ * - 영속성 컨텍스트에 등록되지 않으므로 dirty checking 스냅샷·프록시·1차 캐시 비용이 없다.
+ * - users ⋈ user_roles 조회 결과(회원당 권한 수만큼의 행)를 회원 단위로 모은 값이다.
+ * </pre>
+ */
+public record UserProfileRow(
+        Long id,
+        UUID publicId,
+        String username,
+        String name,
+        String email,
+        LocalDateTime createDate,
+        Long version,
+        Set<UserRole> roles
+) {
+}
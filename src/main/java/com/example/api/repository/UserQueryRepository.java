@@ -0,0 +1,42 @@
+package com.example.api.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 동적 JPQL 이 필요한 회원 조회 (UserRepository 프래그먼트)
+ * 읽기 전용 조회는 엔티티 대신 UserProfileRow 프로젝션을 반환한다.
+ */
+public interface UserQueryRepository {
+
+    /**
+     * 정렬 키 기준 keyset 조회 (OFFSET·COUNT 없이 인덱스 seek). 같은 정렬 키 값은 id 로 순서를 정한다.
+     *
+     * @param sortProperty 정렬 속성 (id 또는 createDate)
+     * @param afterValue   이 정렬 키 값 다음부터 조회 (sortProperty 가 id 면 사용하지 않음)
+     * @param afterId      afterValue 와 함께 경계 행을 가리키는 id (null 이면 처음부터)
+     * @param ascending    조회 순서 (오름차순이면 경계 초과, 내림차순이면 미만)
+     * @param limit        최대 행 수 (다음 페이지 존재 확인용으로 보통 size + 1)
+     */
+    List<UserProfileRow> findByKeyset(UserSearchCondition condition, String sortProperty,
+                                      Object afterValue, Long afterId, boolean ascending, int limit);
+
+    /**
+     * OFFSET 조회 (COUNT 없이 size + 1 행으로 다음 페이지 존재 여부만 확인)
+     */
+    Slice<UserProfileRow> findSlice(UserSearchCondition condition, Pageable pageable);
+
+    /**
+     * 조건에 맞는 회원 수 (COUNT 1회)
+     */
+    long countUsers(UserSearchCondition condition);
+
+    /**
+     * 공개아이디로 회원 및 권한 조회 (엔티티 로딩 없이 SQL 1회)
+     */
+    Optional<UserProfileRow> findProfileByPublicId(UUID publicId);
+}
@@ -0,0 +1,216 @@
+package com.example.api.repository;
+
+import com.example.api.dto.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 목록 조회는 2단계로 실행한다. (페이지 크기와 무관하게 SQL 2회)
+ * <pre>
+ * 1. 페이지에 해당하는 id 만 조회 (필터·정렬·OFFSET/keyset·LIMIT 을 DB 에서 처리)
+ * 2. id IN (...) + 권한 left join 으로 회원과 권한을 한 번에 조회 후 1의 순서로 재정렬
+ * </pre>
+ * 컬렉션 fetch join 과 페이징을 한 쿼리에 쓰면 Hibernate 가 전체 결과를 메모리에서 페이징하므로 분리한다.
+ * 2단계는 엔티티가 아닌 컬럼 튜플로 조회해 UserProfileRow 로 모은다. (영속성 컨텍스트 등록·스냅샷 없음)
+ */
+@RequiredArgsConstructor
+public class UserQueryRepositoryImpl implements UserQueryRepository {
+
+    /**
+     * 회원 컬럼 + 권한 (회원당 권한 수만큼 행, 권한이 없으면 role = null 1행)
+     */
+    private static final String PROFILE_SELECT = """
+            select u.id as id, u.publicId as publicId, u.username as username, u.name as name,
+                   u.email as email, u.createDate as createDate, u.version as version, r as role
+            from User u left join u.roles r
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<UserProfileRow> findByKeyset(UserSearchCondition condition, String sortProperty,
+                                             Object afterValue, Long afterId, boolean ascending, int limit) {
+        Criteria criteria = Criteria.of(condition);
+        if (afterId != null) {
+            String op = ascending ? ">" : "<";
+            if ("id".equals(sortProperty)) {
+                criteria.add("u.id " + op + " :afterId", "afterId", afterId);
+            } else {
+                criteria.add("(u." + sortProperty + " " + op + " :afterValue"
+                        + " or (u." + sortProperty + " = :afterValue and u.id " + op + " :afterId))", "afterValue", afterValue);
+                criteria.parameters.put("afterId", afterId);
+            }
+        }
+
+        String direction = ascending ? " asc" : " desc";
+        StringBuilder jpql = new StringBuilder("select u.id from User u").append(criteria.where());
+        jpql.append(" order by ");
+        if (!"id".equals(sortProperty)) {
+            jpql.append("u.").append(sortProperty).append(direction).append(", ");
+        }
+        jpql.append("u.id").append(direction);
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class)
+                .setHint("org.hibernate.comment", "회원 목록 keyset id 조회")
+                .setMaxResults(limit);
+        criteria.bind(query);
+        return findProfilesByIds(query.getResultList());
+    }
+
+    @Override
+    public Slice<UserProfileRow> findSlice(UserSearchCondition condition, Pageable pageable) {
+        Criteria criteria = Criteria.of(condition);
+        StringBuilder jpql = new StringBuilder("select u.id from User u").append(criteria.where());
+        appendOrderBy(jpql, pageable.getSort());
+
+        TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class)
+                .setHint("org.hibernate.comment", "회원 목록 slice id 조회")
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1);
+        criteria.bind(query);
+        List<Long> ids = new ArrayList<>(query.getResultList());
+
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids.removeLast();
+        }
+        return new SliceImpl<>(findProfilesByIds(ids), pageable, hasNext);
+    }
+
+    @Override
+    public long countUsers(UserSearchCondition condition) {
+        Criteria criteria = Criteria.of(condition);
+        TypedQuery<Long> query = entityManager.createQuery("select count(u) from User u" + criteria.where(), Long.class)
+                .setHint("org.hibernate.comment", "회원 수 조회");
+        criteria.bind(query);
+        return query.getSingleResult();
+    }
+
+    @Override
+    public Optional<UserProfileRow> findProfileByPublicId(UUID publicId) {
+        List<Tuple> tuples = entityManager.createQuery(PROFILE_SELECT + " where u.publicId = :publicId", Tuple.class)
+                .setHint("org.hibernate.comment", "공개아이디로 회원 프로필 조회")
+                .setParameter("publicId", publicId)
+                .getResultList();
+        return toProfiles(tuples).values().stream().findFirst();
+    }
+
+    /**
+     * @return ids 순서대로의 회원 프로필. 그 사이 삭제된 회원은 제외
+     */
+    private List<UserProfileRow> findProfilesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Tuple> tuples = entityManager.createQuery(PROFILE_SELECT + " where u.id in :ids", Tuple.class)
+                .setHint("org.hibernate.comment", "회원 목록 프로필 조회")
+                .setParameter("ids", ids)
+                .getResultList();
+        Map<Long, UserProfileRow> byId = toProfiles(tuples);
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * 회원당 권한 수만큼의 튜플을 회원 단위로 모은다.
+     */
+    private static Map<Long, UserProfileRow> toProfiles(List<Tuple> tuples) {
+        Map<Long, UserProfileRow> profiles = new LinkedHashMap<>();
+        for (Tuple t : tuples) {
+            UserProfileRow profile = profiles.computeIfAbsent(t.get("id", Long.class), id -> new UserProfileRow(
+                    id,
+                    t.get("publicId", UUID.class),
+                    t.get("username", String.class),
+                    t.get("name", String.class),
+                    t.get("email", String.class),
+                    t.get("createDate", LocalDateTime.class),
+                    t.get("version", Long.class),
+                    EnumSet.noneOf(UserRole.class)));
+            UserRole role = t.get("role", UserRole.class);
+            if (role != null) {
+                profile.roles().add(role);
+            }
+        }
+        return profiles;
+    }
+
+    /**
+     * 필터 조건 → JPQL where 절. 각 조건은 인덱스 선두 컬럼에 대한 등치·범위 비교로만 만든다.
+     * <pre>
+     * - 아이디 접두사: username LIKE '접두사%' (선두 고정 LIKE 는 uk_users_username 범위 조회)
+     * - 이메일 도메인: email_domain = ? (idx_users_email_domain)
+     * - 권한: id IN (권한으로 찾은 회원 id) (idx_user_roles_role 에서 회원 id 를 얻어 PK 로 조회)
+     * - 가입일: create_date >= ? AND create_date < ? (idx_users_create_date)
+     * </pre>
+     */
+    private static final class Criteria {
+
+        private final List<String> clauses = new ArrayList<>();
+        private final Map<String, Object> parameters = new HashMap<>();
+
+        static Criteria of(UserSearchCondition condition) {
+            Criteria criteria = new Criteria();
+            if (condition.usernamePrefix() != null) {
+                criteria.add("u.username like :usernamePrefix escape '!'",
+                        "usernamePrefix", escapeLike(condition.usernamePrefix()) + "%");
+            }
+            if (condition.emailDomain() != null) {
+                criteria.add("u.emailDomain = :emailDomain", "emailDomain", condition.emailDomain());
+            }
+            if (condition.role() != null) {
+                criteria.add("u.id in (select ur.id from User ur join ur.roles r where r = :role)", "role", condition.role());
+            }
+            if (condition.createdFrom() != null) {
+                criteria.add("u.createDate >= :createdFrom", "createdFrom", condition.createdFrom());
+            }
+            if (condition.createdTo() != null) {
+                criteria.add("u.createDate < :createdTo", "createdTo", condition.createdTo());
+            }
+            return criteria;
+        }
+
+        void add(String clause, String name, Object value) {
+            clauses.add(clause);
+            parameters.put(name, value);
+        }
+
+        String where() {
+            return clauses.isEmpty() ? "" : " where " + String.join(" and ", clauses);
+        }
+
+        void bind(TypedQuery<?> query) {
+            parameters.forEach(query::setParameter);
+        }
+
+        private static String escapeLike(String value) {
+            return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        }
+    }
+
+    /**
+     * 정렬 속성은 SortField 열거값으로만 들어오므로 JPQL 에 그대로 붙인다. id 를 마지막 정렬 키로 추가해 순서를 고정한다.
+     * id 는 마지막 정렬 키와 같은 방향으로 붙인다. ((create_date, id) 인덱스를 한 방향으로 읽을 수 있어야 정렬 없이 조회된다)
+     */
+    private static void appendOrderBy(StringBuilder jpql, Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", " order by ", "");
+        boolean hasId = false;
+        String direction = " asc";
+        for (Sort.Order order : sort) {
+            direction = order.isAscending() ? " asc" : " desc";
+            orderBy.add("u." + order.getProperty() + direction);
+            hasId |= "id".equals(order.getProperty());
+        }
+        if (!hasId) {
+            orderBy.add("u.id" + direction);
+        }
+        jpql.append(orderBy);
+    }
+}
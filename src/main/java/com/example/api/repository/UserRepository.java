@@ -1,16 +1,23 @@
 package com.example.api.repository;
 
+import com.example.api.dto.UserRole;
 import com.example.api.entity.User;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserQueryRepository {
 
     /**
      * 회원 조회
@@ -20,6 +27,25 @@ public interface UserRepository extends JpaRepository<User, Long> {
     })
     Optional<User> findByPublicId(@Param("publicId") UUID publicId);
 
+    /**
+     * 공개아이디로 내부 PK 조회 (엔티티 로딩 없이 id 컬럼만 조회)
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.comment", value = "공개아이디로 회원 PK 조회")
+    })
+    @Query("select u.id from User u where u.publicId = :publicId")
+    Optional<Long> findIdByPublicId(@Param("publicId") UUID publicId);
+
+    /**
+     * 공개아이디로 권한만 조회 (엔티티 로딩 없이 users ⋈ user_roles 1회)
+     * 모든 회원은 최소 1개 권한을 가지므로 빈 목록이면 회원이 없는 것으로 본다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.comment", value = "공개아이디로 회원 권한 조회")
+    })
+    @Query("select r from User u join u.roles r where u.publicId = :publicId")
+    List<UserRole> findRolesByPublicId(@Param("publicId") UUID publicId);
+
     /**
      * 회원 및 권한 조회
      */
@@ -37,7 +63,84 @@ public interface UserRepository extends JpaRepository<User, Long> {
     })
     Optional<User> findByUsername(@Param("username") String username);
 
-    boolean existsByUsername(@Param("username") String username);
+    /**
+     * 로그인용 아이디로 회원 및 권한 조회 (인증 주체 스냅샷 생성용)
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.comment", value = "로그인용 아이디로 회원 및 권한 조회"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")     // 스냅샷 변환 후 버리므로 dirty checking 불필요
+    })
+    @EntityGraph(attributePaths = {"roles"})
+    Optional<User> findWithRolesByUsername(@Param("username") String username);
+
+    /**
+     * 아이디 또는 이메일이 이미 사용 중인 회원의 (username, email) 조회 (중복 확인 SQL 1회)
+     * 결과는 최대 2건이며, 각 행의 값과 요청 값을 비교해 어느 쪽이 중복인지 판단한다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.comment", value = "아이디·이메일 중복 확인")
+    })
+    @Query("select u.username as username, u.email as email from User u where u.username = :username or u.email = :email")
+    List<UniqueKeys> findUniqueKeys(@Param("username") String username, @Param("email") String email);
+
+    /**
+     * 여러 아이디·이메일 중 이미 사용 중인 회원의 (username, email) 조회 (일괄 등록 청크당 SQL 1회)
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.comment", value = "아이디·이메일 일괄 중복 확인")
+    })
+    @Query("select u.username as username, u.email as email from User u where u.username in :usernames or u.email in :emails")
+    List<UniqueKeys> findUniqueKeysIn(@Param("usernames") Collection<String> usernames, @Param("emails") Collection<String> emails);
 
     boolean existsByEmail(@Param("email") String email);
+
+    /**
+     * 비밀번호 해시 교체 (엔티티 로딩·dirty checking 없이 UPDATE 1회, 버전 1 증가)
+     * 행이 바뀌면 버전도 올려야 동시에 엔티티로 수정하는 쪽이 낙관적 락 충돌을 감지한다.
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.comment", value = "회원 비밀번호 해시 갱신")
+    })
+    @Transactional
+    @Modifying
+    @Query("""
+            update User u
+            set u.password = :password, u.modifiedDate = :modifiedDate, u.version = u.version + 1
+            where u.id = :id
+            """)
+    int updatePassword(@Param("id") Long id,
+                       @Param("password") String password,
+                       @Param("modifiedDate") LocalDateTime modifiedDate);
+
+    /**
+     * 버전이 같을 때만 프로필 수정 (엔티티·권한 로딩 없이 UPDATE 1회, 버전 1 증가)
+     * 벌크 UPDATE 는 감사(auditing) 콜백을 거치지 않으므로 수정 일시를 함께 넘긴다.
+     *
+     * @return 수정된 행 수 (0 이면 회원이 없거나 버전 불일치)
+     */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.comment", value = "회원 프로필 버전 확인 수정")
+    })
+    @Modifying
+    @Query("""
+            update User u
+            set u.name = :name, u.email = :email, u.emailDomain = :emailDomain,
+                u.modifiedDate = :modifiedDate, u.version = u.version + 1
+            where u.publicId = :publicId and u.version = :version
+            """)
+    int updateProfileIfVersionMatches(@Param("publicId") UUID publicId,
+                                      @Param("version") Long version,
+                                      @Param("name") String name,
+                                      @Param("email") String email,
+                                      @Param("emailDomain") String emailDomain,
+                                      @Param("modifiedDate") LocalDateTime modifiedDate);
+
+    /**
+     * 중복 확인용 프로젝션 (유니크 컬럼만 조회)
+     */
+    interface UniqueKeys {
+        String getUsername();
+
+        String getEmail();
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.api.repository;
+
+import com.example.api.dto.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+
+/**
+ * 회원 목록 필터 조건. null 인 항목은 조건에서 제외한다.
+ *
+ * @param usernamePrefix 아이디 접두사 (uk_users_username 인덱스 범위 조회)
+ * @param emailDomain    이메일 도메인, 소문자 (idx_users_email_domain)
+ * @param role           권한 (idx_user_roles_role)
+ * @param createdFrom    가입일 하한 (포함, idx_users_create_date)
+ * @param createdTo      가입일 상한 (미포함)
+ */
+public record UserSearchCondition(
+        String usernamePrefix,
+        String emailDomain,
+        UserRole role,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo
+) {
+    public static final UserSearchCondition NONE = new UserSearchCondition(null, null, null, null, null);
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+
+    /**
+     * COUNT 캐시 키용 서명. 조건이 없으면 "all"
+     */
+    public String signature() {
+        if (isEmpty()) {
+            return "all";
+        }
+        StringJoiner signature = new StringJoiner("|");
+        signature.add("u=" + (usernamePrefix == null ? "" : usernamePrefix));
+        signature.add("d=" + (emailDomain == null ? "" : emailDomain));
+        signature.add("r=" + (role == null ? "" : role.name()));
+        signature.add("f=" + (createdFrom == null ? "" : createdFrom));
+        signature.add("t=" + (createdTo == null ? "" : createdTo));
+        return signature.toString();
+    }
+}
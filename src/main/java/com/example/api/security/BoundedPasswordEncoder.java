@@ -0,0 +1,125 @@
+package com.example.api.security;
+
+import com.example.api.exception.BusinessException;
+import com.example.api.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시/검증을 전용 스레드 풀(passwordHashExecutor)에서 실행하는 PasswordEncoder.
+ * <pre>
+ * - 동기 호출(encode/matches)은 풀에 제출 후 완료를 기다린다. 동시 해시 연산 수가 풀 크기로 제한된다.
+ * - 이미 풀 스레드에서 실행 중이면(submit 내부의 AuthenticationManager 등) 재제출 없이 그 자리에서 실행한다.
+ * - 큐가 가득 차면 대기하지 않고 BusinessException(SERVICE_BUSY, 503) 을 던진다.
+ * - 비동기 호출(encodeAsync/matchesAsync/submit)은 요청 스레드를 점유하지 않는다.
+ * </pre>
+ *
+ * <p><b>메트릭</b></p>
+ * <ul>
+ *   <li>{@code password.hash} (timer, op=encode|matches) : 해시 연산 시간</li>
+ *   <li>{@code password.hash.queue.depth} (gauge) : 대기 중인 작업 수</li>
+ *   <li>{@code password.hash.active} (gauge) : 실행 중인 작업 수</li>
+ *   <li>{@code password.hash.rejected} (counter) : 큐 포화로 거절된 작업 수</li>
+ * </ul>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    /** 현재 스레드가 풀에서 submit 된 작업을 실행 중인지 여부 */
+    private static final ThreadLocal<Boolean> IN_POOL = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.encodeTimer = Timer.builder("password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash").tag("op", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 해시 연산을 포함하는 작업(예: AuthenticationManager 인증)을 풀에서 실행한다.
+     * 작업 내부의 encode/matches 는 같은 스레드에서 바로 실행된다.
+     *
+     * @throws BusinessException SERVICE_BUSY - 큐 포화
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (IN_POOL.get()) {
+            try {
+                return CompletableFuture.completedFuture(task.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        try {
+            return executor.submitCompletable(() -> {
+                IN_POOL.set(Boolean.TRUE);
+                try {
+                    return task.get();
+                } finally {
+                    IN_POOL.remove();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("event=password_hash_rejected queue_depth={} active={}",
+                    executor.getThreadPoolExecutor().getQueue().size(), executor.getActiveCount());
+            throw new BusinessException(ErrorCode.SERVICE_BUSY);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
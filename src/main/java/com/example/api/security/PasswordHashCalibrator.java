@@ -0,0 +1,110 @@
+package com.example.api.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+/**
+ * 현재 장비에서 해시 1회(검증 시간 ≈ 해시 시간)가 목표 시간에 가장 가깝게 걸리는 비용 파라미터를 측정한다.
+ * <pre>
+ * - Argon2id : 병렬도는 설정값으로 고정한다. 최소 iterations 에서 메모리를 설정값(하한)부터 상한까지 2배씩 늘려
+ *              목표 시간 이내의 최대 메모리를 고른 뒤, 그 메모리에서 iterations 를 늘려가며 측정한다.
+ *              (같은 시간이면 메모리를 먼저 키우는 편이 GPU/ASIC 공격에 강하다)
+ * - BCrypt   : strength(cost) 를 늘려가며 측정
+ * - 목표 시간을 넘지 않는 가장 높은 비용을 선택한다. 최소 비용으로도 목표를 넘으면 최소 비용을 사용한다.
+ * - 파라미터당 샘플 3회의 중앙값을 사용한다. (JIT·GC 로 인한 편차 완화)
+ * </pre>
+ * 기동 시간이 수 초 늘어나므로 security.password.calibration.enabled=true 일 때만 실행한다.
+ */
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "Calibration1234!";
+    private static final int SAMPLES = 3;
+
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_MIN_ITERATIONS = 2;
+    private static final int ARGON2_MAX_ITERATIONS = 10;
+
+    private static final int BCRYPT_MIN_STRENGTH = 10;
+    private static final int BCRYPT_MAX_STRENGTH = 16;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static Argon2PasswordEncoder argon2(int memoryKib, int parallelism, int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, iterations);
+    }
+
+    /**
+     * @param minMemoryKib 메모리 하한 (설정값)
+     * @param maxMemoryKib 메모리 상한. 하한 이하면 메모리는 하한으로 고정하고 iterations 만 측정한다.
+     * @return 목표 시간 이내의 최대 메모리와, 그 메모리에서의 최대 iterations
+     */
+    public static Argon2Parameters calibrateArgon2(int minMemoryKib, int maxMemoryKib, int parallelism, long targetMillis) {
+        int memoryKib = minMemoryKib;
+        int candidate = minMemoryKib;
+        while (candidate < maxMemoryKib) {
+            candidate = (int) Math.min((long) candidate * 2, maxMemoryKib);
+            long millis = measureMillis(argon2(candidate, parallelism, ARGON2_MIN_ITERATIONS));
+            log.debug("event=password_hash_calibration_sample memory_kib={} elapsed_ms={}", candidate, millis);
+            if (millis > targetMillis) {
+                break;
+            }
+            memoryKib = candidate;
+        }
+
+        int chosenMemoryKib = memoryKib;
+        int iterations = calibrate(ARGON2_MIN_ITERATIONS, ARGON2_MAX_ITERATIONS, targetMillis,
+                i -> argon2(chosenMemoryKib, parallelism, i));
+        log.info("event=password_hash_calibrated algorithm=argon2id memory_kib={} parallelism={} iterations={} target_ms={}",
+                chosenMemoryKib, parallelism, iterations, targetMillis);
+        return new Argon2Parameters(chosenMemoryKib, iterations);
+    }
+
+    /**
+     * @return 목표 시간 이내의 최대 strength
+     */
+    public static int calibrateBcryptStrength(long targetMillis) {
+        int strength = calibrate(BCRYPT_MIN_STRENGTH, BCRYPT_MAX_STRENGTH, targetMillis, BCryptPasswordEncoder::new);
+        log.info("event=password_hash_calibrated algorithm=bcrypt strength={} target_ms={}", strength, targetMillis);
+        return strength;
+    }
+
+    private static int calibrate(int min, int max, long targetMillis, IntFunction<PasswordEncoder> encoderFactory) {
+        int chosen = min;
+        for (int cost = min; cost <= max; cost++) {
+            long millis = measureMillis(encoderFactory.apply(cost));
+            log.debug("event=password_hash_calibration_sample cost={} elapsed_ms={}", cost, millis);
+            if (millis > targetMillis) {
+                if (cost == min) {
+                    log.warn("event=password_hash_calibration_min_exceeds_target cost={} elapsed_ms={} target_ms={}",
+                            cost, millis, targetMillis);
+                }
+                break;
+            }
+            chosen = cost;
+        }
+        return chosen;
+    }
+
+    public record Argon2Parameters(int memoryKib, int iterations) {
+    }
+
+    private static long measureMillis(PasswordEncoder encoder) {
+        String encoded = encoder.encode(SAMPLE_PASSWORD); // warm-up
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(SAMPLE_PASSWORD, encoded);
+            samples[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.api.security;
+
+import com.example.api.security.session.SessionEvent;
+import com.example.api.security.session.SessionEventListener;
+import com.example.api.util.BoundedTtlCache;
+import com.example.api.util.TransactionCallbacks;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * username → 인증 주체 스냅샷(UserDetailsImpl) 캐시.
+ * <pre>
+ * - 토큰 없이 반복 로그인하는 클라이언트가 매번 users/user_roles 를 조회하지 않도록 한다.
+ * - 최대 max-size 건, ttl-seconds 후 만료. (메트릭: cache.* tag cache=principal)
+ * - 회원 정보(프로필·권한·비밀번호) 변경 시 invalidate 를 호출해야 한다.
+ *   트랜잭션 안에서 호출되면 즉시 + 커밋 후 한 번 더 제거한다.
+ *   (커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경쟁 방지)
+ * - 다른 노드의 캐시는 세션 이벤트(SessionEventBus)를 받아 publicId 기준으로 무효화한다.
+ * </pre>
+ */
+@Component
+public class PrincipalCache implements SessionEventListener {
+
+    private final boolean enabled;
+    private final BoundedTtlCache<String, UserDetailsImpl> cache;
+
+    public PrincipalCache(
+            @Value("${security.principal-cache.enabled:true}") boolean enabled,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize,
+            @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = new BoundedTtlCache<String, UserDetailsImpl>("principal", maxSize, Duration.ofSeconds(ttlSeconds))
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * @return 캐시 또는 loader 결과, 회원이 없으면 null
+     */
+    public UserDetailsImpl get(String username, Function<String, UserDetailsImpl> loader) {
+        return enabled ? cache.get(username, loader) : loader.apply(username);
+    }
+
+    public void invalidate(String username) {
+        TransactionCallbacks.nowAndAfterCommit(() -> cache.invalidate(username));
+    }
+
+    /**
+     * username 을 모를 때(권한 변경 등) 사용. 전체 엔트리를 확인하므로 빈번한 경로에서는 invalidate(username) 을 쓴다.
+     */
+    public void invalidate(UUID publicId) {
+        TransactionCallbacks.nowAndAfterCommit(() -> cache.invalidateIf(p -> p.publicId().equals(publicId)));
+    }
+
+    /**
+     * 모든 세션 이벤트(전체 로그아웃·비밀번호 재해시·프로필 변경)에 대해 해당 회원 스냅샷을 제거한다.
+     */
+    @Override
+    public void onSessionEvent(SessionEvent event) {
+        cache.invalidateIf(p -> p.publicId().equals(event.publicId()));
+    }
+}
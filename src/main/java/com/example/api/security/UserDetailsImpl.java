@@ -1,34 +1,73 @@
 package com.example.api.security;
 
+import com.example.api.dto.UserRole;
 import com.example.api.entity.User;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
-public record UserDetailsImpl(User user) implements UserDetails {
+/**
+ * 인증 주체(principal)의 불변 스냅샷.
+ * <pre>
+ * - 관리 중인 User 엔티티 대신 인증에 필요한 값만 복사해 보관한다.
+ *   (PrincipalCache 에 그대로 저장 가능, 지연 로딩·영속성 컨텍스트와 무관)
+ * - 회원 정보가 바뀌면 PrincipalCache 를 무효화해야 다음 로그인에 반영된다.
+ * </pre>
+ */
+public record UserDetailsImpl(
+        Long id,
+        UUID publicId,
+        String username,
+        String password,
+        Set<UserRole> roles,
+        boolean accountNonExpired,
+        boolean accountNonLocked,
+        boolean credentialsNonExpired,
+        boolean enabled
+) implements UserDetails {
 
-    public UUID publicId() {
-        return user.getPublicId();
+    public UserDetailsImpl {
+        roles = Set.copyOf(roles);
+    }
+
+    /**
+     * 엔티티로부터 스냅샷 생성 (roles 가 로딩된 상태여야 한다)
+     */
+    public static UserDetailsImpl from(User user) {
+        // users 테이블에 비활성화·잠금·만료 컬럼이 없으므로 항상 유효한 계정이다.
+        // (로그인 실패 잠금은 LoginThrottle 이 계정 상태와 별도로 처리)
+        return new UserDetailsImpl(
+                user.getId(),
+                user.getPublicId(),
+                user.getUsername(),
+                user.getPassword(),
+                user.getRoles(),
+                true,
+                true,
+                true,
+                true
+        );
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
+        return roles.stream()
                 .map(role -> new SimpleGrantedAuthority(role.authority()))
                 .toList();
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     /**
@@ -38,7 +77,7 @@ public record UserDetailsImpl(User user) implements UserDetails {
      */
     @Override
     public boolean isAccountNonExpired() {
-        return true; // Or logic from User entity
+        return accountNonExpired;
     }
 
     /**
@@ -48,7 +87,7 @@ public record UserDetailsImpl(User user) implements UserDetails {
      */
     @Override
     public boolean isAccountNonLocked() {
-        return true; // Or logic from User entity
+        return accountNonLocked;
     }
 
     /**
@@ -58,7 +97,7 @@ public record UserDetailsImpl(User user) implements UserDetails {
      */
     @Override
     public boolean isCredentialsNonExpired() {
-        return true; // Or logic from User entity
+        return credentialsNonExpired;
     }
 
     /**
@@ -68,6 +107,14 @@ public record UserDetailsImpl(User user) implements UserDetails {
      */
     @Override
     public boolean isEnabled() {
-        return true; // Or logic from User entity
+        return enabled;
+    }
+
+    /**
+     * 비밀번호 해시가 로그에 남지 않도록 제외
+     */
+    @Override
+    public String toString() {
+        return "UserDetailsImpl[id=" + id + ", publicId=" + publicId + ", username=" + username + ", roles=" + roles + "]";
     }
 }
@@ -12,16 +12,24 @@ import org.springframework.stereotype.Service;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
         // TODO: 회원 비활성화 여부 확인
 
-        // TODO: 회원 패스워드 실패 횟수 초과 확인
+        // 패스워드 실패 횟수 초과는 조회 전에 LoginThrottle 에서 거절된다. (AuthService)
 
-        return userRepository.findByUsername(username)
-                .map(UserDetailsImpl::new)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        // 캐시 미스 시 회원 + 권한을 조회 1회로 읽어 스냅샷으로 보관
+        UserDetailsImpl principal = principalCache.get(username, name ->
+                userRepository.findWithRolesByUsername(name)
+                        .map(UserDetailsImpl::from)
+                        .orElse(null));
+
+        if (principal == null) {
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
+        return principal;
     }
 }
@@ -0,0 +1,30 @@
+package com.example.api.security.session;
+
+import com.example.api.util.TransactionCallbacks;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 현재 JVM 에만 전달하는 세션 이벤트 버스. (session-events.bus=local)
+ * 단일 노드 배포나 Redis 없는 테스트에서 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "session-events.bus", havingValue = "local")
+public class LocalSessionEventBus implements SessionEventBus {
+
+    private static final String ORIGIN = "local";
+
+    private final SessionEventDispatcher dispatcher;
+
+    public LocalSessionEventBus(SessionEventDispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void publish(SessionEvent.Type type, UUID publicId) {
+        SessionEvent event = newEvent(type, publicId, ORIGIN);
+        TransactionCallbacks.afterCommit(() -> dispatcher.dispatch(event));
+    }
+}
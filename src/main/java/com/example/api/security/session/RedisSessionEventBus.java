@@ -0,0 +1,99 @@
+package com.example.api.security.session;
+
+import com.example.api.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 세션 이벤트 버스. (session-events.bus=redis, 기본값)
+ * <pre>
+ * - 발행 노드: 커밋 후 자기 노드 수신자에 바로 전달 + 채널로 PUBLISH
+ * - 다른 노드: 구독 메시지를 taskExecutor 에서 수신자에 전달 (자기 노드가 발행한 메시지는 origin 으로 걸러낸다)
+ * - pub/sub 은 전달을 보장하지 않는다. (구독 끊김 중 발행된 이벤트는 유실)
+ *   따라서 수신자가 무효화하는 캐시는 모두 TTL 을 가져야 하며, 유실 시 TTL 만료로 수렴한다.
+ * - PUBLISH 실패는 호출자에게 전파하지 않는다. (로그아웃 등 원 작업은 이미 커밋됨)
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "session-events.bus", havingValue = "redis", matchIfMissing = true)
+public class RedisSessionEventBus implements SessionEventBus {
+
+    /** 노드 식별자 (기동 시 1회 생성) */
+    private final String origin = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redisTemplate;
+    private final SessionEventDispatcher dispatcher;
+    private final RedisMessageListenerContainer container;
+    private final String channel;
+
+    public RedisSessionEventBus(
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            SessionEventDispatcher dispatcher,
+            @Value("${session-events.channel:session-events}") String channel
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.dispatcher = dispatcher;
+        this.channel = channel;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+        this.container.addMessageListener(this::onMessage, new ChannelTopic(channel));
+    }
+
+    @PostConstruct
+    void subscribe() {
+        container.afterPropertiesSet();
+        try {
+            container.start();
+        } catch (RuntimeException e) {
+            // Redis 가 준비되지 않아도 기동은 계속한다. (컨테이너가 재구독을 시도하며, 그동안은 TTL 로 수렴)
+            log.warn("event=session_event_subscribe_failed channel={} exception={} message={}",
+                    channel, e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void unsubscribe() throws Exception {
+        container.destroy();
+    }
+
+    @Override
+    public void publish(SessionEvent.Type type, UUID publicId) {
+        SessionEvent event = newEvent(type, publicId, origin);
+        TransactionCallbacks.afterCommit(() -> {
+            dispatcher.dispatch(event);
+            try {
+                redisTemplate.convertAndSend(channel, event.encode());
+            } catch (RuntimeException e) {
+                log.warn("event=session_event_publish_failed type={} public_id={} exception={} message={}",
+                        type, publicId, e.getClass().getSimpleName(), e.getMessage());
+            }
+        });
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        SessionEvent event;
+        try {
+            event = SessionEvent.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            log.warn("event=session_event_malformed channel={}", channel);
+            return;
+        }
+        if (!origin.equals(event.origin())) {
+            dispatcher.dispatchAsync(event);
+        }
+    }
+}
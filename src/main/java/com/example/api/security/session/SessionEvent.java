@@ -0,0 +1,61 @@
+package com.example.api.security.session;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 회원 세션/인증 상태 변경 이벤트. 모든 노드가 수신해 로컬 캐시를 무효화한다.
+ * <pre>
+ * 전송 형식 (Redis pub/sub): {type}|{publicId}|{occurredAt epoch ms}|{origin}
+ * </pre>
+ *
+ * @param origin 발행 노드 식별자 (자기 노드가 발행한 메시지의 재수신 구분용)
+ */
+public record SessionEvent(Type type, UUID publicId, Instant occurredAt, String origin) {
+
+    /**
+     * 권한 변경·비밀번호 변경 API 가 생기면 액세스 토큰을 무효화하는 타입으로 추가한다.
+     */
+    public enum Type {
+        /** 전체 기기 로그아웃 - 이전에 발급된 액세스 토큰 무효화 */
+        USER_LOGGED_OUT_ALL(true),
+        /** 저장 해시 교체(로그인 시 재해시, 비밀번호는 그대로) - 인증 주체 캐시 무효화 (액세스 토큰은 유지) */
+        PASSWORD_REHASHED(false),
+        /** 프로필 변경 - 프로필·인증 주체 캐시 무효화 (액세스 토큰은 유지) */
+        PROFILE_CHANGED(false);
+
+        private final boolean revokesAccessTokens;
+
+        Type(boolean revokesAccessTokens) {
+            this.revokesAccessTokens = revokesAccessTokens;
+        }
+
+        /**
+         * @return 이벤트 이전에 발급된 액세스 토큰을 무효화해야 하면 true
+         */
+        public boolean revokesAccessTokens() {
+            return revokesAccessTokens;
+        }
+    }
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        return type.name() + SEPARATOR + publicId + SEPARATOR + occurredAt.toEpochMilli() + SEPARATOR + origin;
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 올바르지 않은 메시지
+     */
+    public static SessionEvent decode(String message) {
+        String[] parts = message.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Malformed session event");
+        }
+        return new SessionEvent(
+                Type.valueOf(parts[0]),
+                UUID.fromString(parts[1]),
+                Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                parts[3]);
+    }
+}
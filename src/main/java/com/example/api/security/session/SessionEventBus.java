@@ -0,0 +1,21 @@
+package com.example.api.security.session;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 세션 이벤트 발행.
+ * <pre>
+ * - session-events.bus=redis (기본) : Redis pub/sub 으로 모든 노드에 전파 (RedisSessionEventBus)
+ * - session-events.bus=local        : 현재 JVM 에만 전달 (단일 노드·테스트용, LocalSessionEventBus)
+ * - 트랜잭션 안에서 발행하면 커밋 후에 전달된다. (롤백 시 전달되지 않음)
+ * </pre>
+ */
+public interface SessionEventBus {
+
+    void publish(SessionEvent.Type type, UUID publicId);
+
+    default SessionEvent newEvent(SessionEvent.Type type, UUID publicId, String origin) {
+        return new SessionEvent(type, publicId, Instant.now(), origin);
+    }
+}
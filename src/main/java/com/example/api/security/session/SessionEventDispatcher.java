@@ -0,0 +1,51 @@
+package com.example.api.security.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 등록된 SessionEventListener 들에 이벤트를 전달한다.
+ */
+@Slf4j
+@Component
+public class SessionEventDispatcher {
+
+    private final List<SessionEventListener> listeners;
+    private final Executor executor;
+
+    public SessionEventDispatcher(List<SessionEventListener> listeners, @Qualifier("taskExecutor") Executor executor) {
+        this.listeners = listeners;
+        this.executor = executor;
+    }
+
+    /**
+     * 호출 스레드에서 전달 (발행 노드 - 다음 요청부터 바로 반영되도록)
+     */
+    public void dispatch(SessionEvent event) {
+        for (SessionEventListener listener : listeners) {
+            try {
+                listener.onSessionEvent(event);
+            } catch (RuntimeException e) {
+                log.warn("event=session_event_listener_failed type={} listener={} exception={} message={}",
+                        event.type(), listener.getClass().getSimpleName(), e.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * taskExecutor 에서 전달 (다른 노드가 발행한 이벤트 - 구독 스레드를 막지 않도록)
+     * 풀이 포화면 호출 스레드에서 전달한다. (무효화 누락 방지)
+     */
+    public void dispatchAsync(SessionEvent event) {
+        try {
+            executor.execute(() -> dispatch(event));
+        } catch (RejectedExecutionException e) {
+            dispatch(event);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.api.security.session;
+
+/**
+ * 세션 이벤트 수신자. 이 인터페이스를 구현한 빈은 SessionEventDispatcher 에 자동 등록된다.
+ * <pre>
+ * - 발행 노드에서는 커밋 직후 발행 스레드에서, 다른 노드에서는 taskExecutor 에서 호출된다.
+ * - 로컬 캐시 무효화처럼 짧은 작업만 수행한다. (예외는 로그만 남기고 다른 수신자 호출은 계속된다)
+ * </pre>
+ */
+@FunctionalInterface
+public interface SessionEventListener {
+
+    void onSessionEvent(SessionEvent event);
+}
@@ -0,0 +1,82 @@
+package com.example.api.security.session;
+
+import com.example.api.jwt.JwtProvider;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원별 "이 시각 이전에 발급된 액세스 토큰은 무효" 기록. (노드 로컬)
+ * <pre>
+ * - 액세스 토큰 무효화 대상 이벤트(SessionEvent.Type#revokesAccessTokens, 현재 전체 로그아웃)를 받으면 이벤트 발생 시각을 기록한다.
+ * - JwtAuthenticationFilter 가 토큰 iat 가 기록 시각 이전이면 INVALID_TOKEN 으로 처리한다.
+ *   (클라이언트는 리프레시 토큰으로 재발급 - 전체 로그아웃이면 리프레시 토큰도 삭제되어 재로그인)
+ * - 기록은 액세스 토큰 유효시간만큼만 의미가 있다. 그 이후에는 이전 토큰이 모두 만료되어 필요 없다.
+ *   조회 시 만료 여부를 확인하고, 만료된 기록은 주기 작업(prune)으로 지운다.
+ * - 인증된 모든 요청이 조회하므로 전역 락이 없는 ConcurrentHashMap 을 쓴다. (LRU 순서 갱신·히트 집계 없음)
+ * - 크기 상한으로 기록을 먼저 지우지 않는다. 지우면 그 회원의 이전 토큰이 다시 유효해지기 때문이다.
+ *   크기는 액세스 토큰 유효시간 안의 전체 로그아웃 회원 수로 제한된다. (메트릭: session.revocations.size)
+ * - iat 는 초 단위이므로 비교도 초 단위로 한다. (이벤트와 같은 초에 발급된 토큰은 유효로 본다 - 재로그인 직후 거절 방지)
+ * </pre>
+ */
+@Slf4j
+@Component
+public class SessionRevocations implements SessionEventListener {
+
+    private final ConcurrentHashMap<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private final Duration ttl;
+
+    public SessionRevocations(JwtProvider jwtProvider, MeterRegistry meterRegistry) {
+        this.ttl = Duration.ofSeconds(jwtProvider.getAccessTokenExpireSeconds());
+        Gauge.builder("session.revocations.size", revokedBefore, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public void onSessionEvent(SessionEvent event) {
+        if (!event.type().revokesAccessTokens()) {
+            return;
+        }
+        Instant at = event.occurredAt().truncatedTo(ChronoUnit.SECONDS);
+        revokedBefore.merge(event.publicId(), at, (previous, current) -> previous.isBefore(current) ? current : previous);
+    }
+
+    public boolean isRevoked(UUID publicId, Date issuedAt) {
+        Instant at = revokedBefore.get(publicId);
+        if (at == null || issuedAt == null) {
+            return false;
+        }
+        // 만료된 기록 이전에 발급된 토큰은 이미 만료되어 서명 검증에서 걸러지므로 기록을 무시한다.
+        return !isExpired(at, Instant.now()) && issuedAt.toInstant().isBefore(at);
+    }
+
+    /**
+     * 액세스 토큰 유효시간이 지난 기록을 지운다.
+     */
+    @Scheduled(
+            initialDelayString = "${session-events.revocation-prune-interval-millis:60000}",
+            fixedDelayString = "${session-events.revocation-prune-interval-millis:60000}"
+    )
+    public void prune() {
+        Instant now = Instant.now();
+        int before = revokedBefore.size();
+        revokedBefore.values().removeIf(at -> isExpired(at, now));
+        int removed = before - revokedBefore.size();
+        if (removed > 0) {
+            log.debug("event=session_revocations_pruned removed={} remaining={}", removed, revokedBefore.size());
+        }
+    }
+
+    private boolean isExpired(Instant revokedAt, Instant now) {
+        return revokedAt.plus(ttl).isBefore(now);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.api.security.throttle;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로컬 메모리 로그인 실패 카운터. (security.login-throttle.store=memory, 기본값)
+ * <pre>
+ * - 키 해시로 stripe(락 + LinkedHashMap, 삽입 순서)를 골라 stripe 단위로만 잠근다. (전역 락 경합 없음)
+ * - 두 윈도우 이상 지난 엔트리는 주기 작업(prune)이 stripe 별로 정리한다. (요청 경로에서 전체 순회 없음)
+ * - stripe 가 max-entries-per-stripe 에 도달한 상태에서 새 키가 오면 가장 오래된 엔트리 EVICTION_SAMPLE 개만 보고
+ *   만료된 것이 있으면 지우고, 없으면 그중 실패 추정값이 가장 낮은 엔트리를 지운다.
+ *   단, 잠금 기준(max-failures-per-username/ip 중 작은 값) 이상인 엔트리는 지우지 않는다.
+ *   (무작위 키를 채워 넣어 잠긴 키를 밀어내는 방식으로 잠금을 풀 수 없게 함)
+ * - 살펴본 엔트리가 모두 잠긴 상태면 새 키를 저장하지 않는다. (메트릭: login.throttle.memory.rejected)
+ *   이 키의 실패는 stripe 에 자리가 날 때까지 세지 않으므로, 이 메트릭이 늘면 max-entries-per-stripe 를 늘린다.
+ * - 인스턴스별 카운트이므로 다중 인스턴스 배포에서는 redis 를 사용한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.login-throttle.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginAttemptStore implements LoginAttemptStore {
+
+    /** stripe 가 가득 찼을 때 제거 후보로 살펴보는 가장 오래된 엔트리 수 */
+    static final int EVICTION_SAMPLE = 8;
+
+    private final long windowMillis;
+    private final int maxEntriesPerStripe;
+    private final long lockedFailures;
+    private final int mask;
+    private final ReentrantLock[] locks;
+    private final Map<String, Window>[] stripes;
+    private final Counter rejectedCounter;
+
+    @SuppressWarnings("unchecked")
+    public InMemoryLoginAttemptStore(
+            @Value("${security.login-throttle.window-seconds:300}") long windowSeconds,
+            @Value("${security.login-throttle.memory.stripes:64}") int stripes,
+            @Value("${security.login-throttle.memory.max-entries-per-stripe:4096}") int maxEntriesPerStripe,
+            @Value("${security.login-throttle.max-failures-per-username:5}") long maxFailuresPerUsername,
+            @Value("${security.login-throttle.max-failures-per-ip:20}") long maxFailuresPerIp,
+            MeterRegistry meterRegistry
+    ) {
+        if (Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("security.login-throttle.memory.stripes must be a power of two");
+        }
+        this.windowMillis = windowSeconds * 1000;
+        this.maxEntriesPerStripe = maxEntriesPerStripe;
+        this.lockedFailures = Math.min(maxFailuresPerUsername, maxFailuresPerIp);
+        this.mask = stripes - 1;
+        this.locks = new ReentrantLock[stripes];
+        this.stripes = new Map[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.locks[i] = new ReentrantLock();
+            this.stripes[i] = new LinkedHashMap<>();
+        }
+        this.rejectedCounter = Counter.builder("login.throttle.memory.rejected").register(meterRegistry);
+    }
+
+    @Override
+    public long failures(String key) {
+        int s = stripe(key);
+        long now = System.currentTimeMillis();
+        locks[s].lock();
+        try {
+            Window w = stripes[s].get(key);
+            if (w == null) return 0;
+            w.roll(now / windowMillis);
+            return estimate(w, now);
+        } finally {
+            locks[s].unlock();
+        }
+    }
+
+    @Override
+    public void recordFailure(String key) {
+        int s = stripe(key);
+        long now = System.currentTimeMillis();
+        long bucket = now / windowMillis;
+        locks[s].lock();
+        try {
+            Map<String, Window> map = stripes[s];
+            Window w = map.get(key);
+            if (w == null) {
+                if (map.size() >= maxEntriesPerStripe && !evictOne(map, now)) {
+                    rejectedCounter.increment();
+                    return;
+                }
+                w = new Window(bucket);
+                map.put(key, w);
+            }
+            w.roll(bucket);
+            w.current++;
+        } finally {
+            locks[s].unlock();
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        int s = stripe(key);
+        locks[s].lock();
+        try {
+            stripes[s].remove(key);
+        } finally {
+            locks[s].unlock();
+        }
+    }
+
+    /**
+     * 두 윈도우 이상 지난 엔트리를 지운다. (stripe 하나씩 잠가 요청 경로를 오래 막지 않음)
+     */
+    @Scheduled(
+            initialDelayString = "${security.login-throttle.memory.prune-interval-millis:60000}",
+            fixedDelayString = "${security.login-throttle.memory.prune-interval-millis:60000}"
+    )
+    public void prune() {
+        long bucket = System.currentTimeMillis() / windowMillis;
+        int removed = 0;
+        for (int s = 0; s < stripes.length; s++) {
+            locks[s].lock();
+            try {
+                Map<String, Window> map = stripes[s];
+                int before = map.size();
+                map.values().removeIf(w -> isExpired(w, bucket));
+                removed += before - map.size();
+            } finally {
+                locks[s].unlock();
+            }
+        }
+        if (removed > 0) {
+            log.debug("event=login_attempts_pruned removed={}", removed);
+        }
+    }
+
+    /**
+     * 가장 오래된 EVICTION_SAMPLE 개 중 만료된 엔트리, 없으면 잠금 기준 미만 중 실패 추정값이 가장 낮은 엔트리 1개를 지운다.
+     *
+     * @return 지웠으면 true, 살펴본 엔트리가 모두 잠긴 상태면 false
+     */
+    private boolean evictOne(Map<String, Window> map, long now) {
+        long bucket = now / windowMillis;
+        Iterator<Map.Entry<String, Window>> it = map.entrySet().iterator();
+        String victim = null;
+        long victimFailures = lockedFailures;
+        for (int i = 0; i < EVICTION_SAMPLE && it.hasNext(); i++) {
+            Map.Entry<String, Window> entry = it.next();
+            Window w = entry.getValue();
+            if (isExpired(w, bucket)) {
+                it.remove();
+                return true;
+            }
+            w.roll(bucket);
+            long failures = estimate(w, now);
+            if (failures < victimFailures) {
+                victim = entry.getKey();
+                victimFailures = failures;
+            }
+        }
+        if (victim == null) {
+            return false;
+        }
+        map.remove(victim);
+        return true;
+    }
+
+    private long estimate(Window w, long now) {
+        return LoginAttemptStore.estimate(w.previous, w.current, now % windowMillis, windowMillis);
+    }
+
+    private static boolean isExpired(Window w, long bucket) {
+        return bucket - w.bucket >= 2;
+    }
+
+    private int stripe(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static final class Window {
+        long bucket;
+        long previous;
+        long current;
+
+        Window(long bucket) {
+            this.bucket = bucket;
+        }
+
+        void roll(long now) {
+            if (now == bucket) return;
+            previous = (now == bucket + 1) ? current : 0;
+            current = 0;
+            bucket = now;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.api.security.throttle;
+
+/**
+ * 로그인 실패 횟수 저장소 (슬라이딩 윈도우).
+ * <pre>
+ * - 윈도우를 고정 구간(bucket) 2개(이전/현재)로 나누고, 이전 구간 카운트를 경과 비율만큼 감쇠해 합산한다.
+ *   estimate = previous × (1 - 현재 구간 경과 비율) + current
+ * - 키는 LoginThrottle 이 "u:{username}", "ip:{clientIp}" 형태로 만든다.
+ * - 구현체는 security.login-throttle.store 프로퍼티로 선택한다. (memory | redis)
+ * </pre>
+ */
+public interface LoginAttemptStore {
+
+    /**
+     * 최근 윈도우 내 실패 횟수 추정값
+     */
+    long failures(String key);
+
+    void recordFailure(String key);
+
+    void reset(String key);
+
+    static long estimate(long previous, long current, long elapsedInBucketMillis, long windowMillis) {
+        return previous * (windowMillis - elapsedInBucketMillis) / windowMillis + current;
+    }
+}
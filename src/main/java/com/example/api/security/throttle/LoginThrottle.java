@@ -0,0 +1,67 @@
+package com.example.api.security.throttle;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * username / 클라이언트 IP 별 로그인 실패 제한.
+ * <pre>
+ * - checkAllowed 는 사용자 조회(UserRepository)와 비밀번호 검증(PasswordEncoder) 전에 호출된다.
+ *   잠긴 요청은 DB·해시 비용 없이 LockedException(ACCOUNT_LOCKED) 으로 거절된다.
+ * - 로그인 성공 시 username 카운트만 초기화한다. (IP 카운트는 윈도우 만료로만 감소)
+ * - 잠금은 window-seconds 동안 실패가 줄어들면 자동으로 풀린다. (수동 해제 없음)
+ * </pre>
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private static final String USERNAME_KEY_PREFIX = "u:";
+    private static final String IP_KEY_PREFIX = "ip:";
+
+    private final LoginAttemptStore store;
+    private final boolean enabled;
+    private final long maxFailuresPerUsername;
+    private final long maxFailuresPerIp;
+
+    public LoginThrottle(
+            LoginAttemptStore store,
+            @Value("${security.login-throttle.enabled:true}") boolean enabled,
+            @Value("${security.login-throttle.max-failures-per-username:5}") long maxFailuresPerUsername,
+            @Value("${security.login-throttle.max-failures-per-ip:20}") long maxFailuresPerIp
+    ) {
+        this.store = store;
+        this.enabled = enabled;
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+    }
+
+    /**
+     * @throws LockedException 최근 윈도우 내 실패 횟수 초과
+     */
+    public void checkAllowed(String username, String clientIp) {
+        if (!enabled) return;
+
+        if (store.failures(IP_KEY_PREFIX + clientIp) >= maxFailuresPerIp) {
+            log.warn("event=login_throttled key_type=ip client_ip={}", clientIp);
+            throw new LockedException("Too many failed login attempts from client");
+        }
+        if (store.failures(USERNAME_KEY_PREFIX + username) >= maxFailuresPerUsername) {
+            log.warn("event=login_throttled key_type=username username={} client_ip={}", username, clientIp);
+            throw new LockedException("Too many failed login attempts for user");
+        }
+    }
+
+    public void onFailure(String username, String clientIp) {
+        if (!enabled) return;
+        store.recordFailure(USERNAME_KEY_PREFIX + username);
+        store.recordFailure(IP_KEY_PREFIX + clientIp);
+    }
+
+    public void onSuccess(String username) {
+        if (!enabled) return;
+        store.reset(USERNAME_KEY_PREFIX + username);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.api.security.throttle;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 로그인 실패 카운터. (security.login-throttle.store=redis)
+ * <pre>
+ * login_fail:{key}:{bucket}  →  실패 횟수 (INCR)   TTL: 윈도우 × 2
+ * </pre>
+ * 조회는 이전/현재 구간 키 MGET 1회, 기록은 INCR (+ 첫 건만 EXPIRE).
+ * 여러 인스턴스가 같은 카운트를 공유한다.
+ */
+@Component
+@ConditionalOnProperty(name = "security.login-throttle.store", havingValue = "redis")
+public class RedisLoginAttemptStore implements LoginAttemptStore {
+
+    private static final String KEY_PREFIX = "login_fail:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowMillis;
+    private final Duration ttl;
+
+    public RedisLoginAttemptStore(
+            StringRedisTemplate redisTemplate,
+            @Value("${security.login-throttle.window-seconds:300}") long windowSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = windowSeconds * 1000;
+        this.ttl = Duration.ofSeconds(windowSeconds * 2);
+    }
+
+    @Override
+    public long failures(String key) {
+        long now = System.currentTimeMillis();
+        long bucket = now / windowMillis;
+        List<String> counts = redisTemplate.opsForValue().multiGet(List.of(bucketKey(key, bucket - 1), bucketKey(key, bucket)));
+        if (counts == null) return 0;
+        return LoginAttemptStore.estimate(parse(counts.get(0)), parse(counts.get(1)), now % windowMillis, windowMillis);
+    }
+
+    @Override
+    public void recordFailure(String key) {
+        String bucketKey = bucketKey(key, System.currentTimeMillis() / windowMillis);
+        Long count = redisTemplate.opsForValue().increment(bucketKey);
+        if (count != null && count == 1) {
+            redisTemplate.expire(bucketKey, ttl);
+        }
+    }
+
+    @Override
+    public void reset(String key) {
+        long bucket = System.currentTimeMillis() / windowMillis;
+        redisTemplate.unlink(List.of(bucketKey(key, bucket - 1), bucketKey(key, bucket)));
+    }
+
+    private static String bucketKey(String key, long bucket) {
+        return KEY_PREFIX + key + ":" + bucket;
+    }
+
+    private static long parse(String value) {
+        return value == null ? 0 : Long.parseLong(value);
+    }
+}
@@ -2,50 +2,160 @@ package com.example.api.service;
 
 import com.example.api.dto.LoginRequest;
 import com.example.api.dto.LoginResponse;
-import com.example.api.entity.User;
 import com.example.api.exception.BusinessException;
 import com.example.api.exception.ErrorCode;
 import com.example.api.jwt.JwtProvider;
 import com.example.api.repository.UserRepository;
+import com.example.api.security.BoundedPasswordEncoder;
+import com.example.api.security.PrincipalCache;
 import com.example.api.security.UserDetailsImpl;
-import lombok.RequiredArgsConstructor;
+import com.example.api.security.session.SessionEvent;
+import com.example.api.security.session.SessionEventBus;
+import com.example.api.security.throttle.LoginThrottle;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
-    private final AuthenticationManager authenticationManager;
+    private static final AccountStatusUserDetailsChecker ACCOUNT_STATUS_CHECKER = new AccountStatusUserDetailsChecker();
+
+    private final UserDetailsService userDetailsService;
     private final JwtProvider jwtProvider;
     private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final LoginThrottle loginThrottle;
+    private final PrincipalCache principalCache;
+    private final RefreshTokenGenerator refreshTokenGenerator;
+    private final SessionEventBus sessionEventBus;
+    /** 검증 이후 처리(실패 횟수 기록, 토큰 저장, 재해시 결과 저장)용. 해시 풀 스레드를 I/O 로 점유하지 않는다. */
+    private final Executor taskExecutor;
 
-    @Transactional
-    public LoginResponse login(LoginRequest request) {
-        UsernamePasswordAuthenticationToken authenticationToken =
-                new UsernamePasswordAuthenticationToken(request.username(), request.password());
+    /**
+     * 존재하지 않는 아이디 검증용 해시 (기동 시 현재 인코더 설정으로 1회 생성)
+     */
+    private String dummyPasswordHash;
 
-        Authentication authentication = authenticationManager.authenticate(authenticationToken);
+    public AuthService(
+            UserDetailsService userDetailsService,
+            JwtProvider jwtProvider,
+            RefreshTokenStore refreshTokenStore,
+            UserRepository userRepository,
+            BoundedPasswordEncoder passwordEncoder,
+            LoginThrottle loginThrottle,
+            PrincipalCache principalCache,
+            RefreshTokenGenerator refreshTokenGenerator,
+            SessionEventBus sessionEventBus,
+            @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
+        this.userDetailsService = userDetailsService;
+        this.jwtProvider = jwtProvider;
+        this.refreshTokenStore = refreshTokenStore;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.loginThrottle = loginThrottle;
+        this.principalCache = principalCache;
+        this.refreshTokenGenerator = refreshTokenGenerator;
+        this.sessionEventBus = sessionEventBus;
+        this.taskExecutor = command -> {
+            try {
+                taskExecutor.execute(command);
+            } catch (RejectedExecutionException e) {
+                // 검증 이후 처리도 밀려 있으면 해시 풀 포화와 같이 503 으로 응답한다.
+                throw new BusinessException(ErrorCode.SERVICE_BUSY);
+            }
+        };
+    }
 
-        String accessToken = jwtProvider.generateAccessToken(authentication);
+    /**
+     * 첫 미존재 아이디 요청이 해시 1회를 더 치르지 않도록 기동 시 미리 만든다.
+     * (미존재 아이디와 존재하는 아이디의 응답 시간을 같게 유지)
+     */
+    @PostConstruct
+    void initDummyPasswordHash() {
+        dummyPasswordHash = passwordEncoder.encode(UUID.randomUUID().toString());
+    }
 
-        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        String refreshToken = issueRefreshToken(userDetails.user().getPublicId());
+    /**
+     * 로그인 파이프라인. 요청 스레드는 비밀번호 검증 완료를 기다리지 않고 반환된다.
+     * <pre>
+     * 1. 실패 횟수 확인 (초과 시 조회·해시 없이 거절)
+     * 2. 인증 주체 조회 (PrincipalCache → DB)
+     * 3. 비밀번호 검증을 해시 전용 풀에 제출하고, 그동안 요청 스레드에서
+     *    JWT 서명과 리프레시 토큰 값 생성을 진행한다. (저장소 쓰기 없음)
+     * 4. 검증 이후 처리는 taskExecutor 에서 실행한다. (저장소·throttle I/O 가 CPU 전용 해시 풀 스레드를 점유하지 않음)
+     *    검증 성공 시에만 리프레시 토큰을 저장하고 응답으로 반환한다.
+     *    실패한 시도는 저장소 쓰기·삭제 비용이 들지 않는다. (무차별 대입 시 저장소 부하 방지)
+     * 5. 필요하면 재해시를 제출한다. (응답을 기다리게 하지 않으며, 실패해도 로그인은 성공)
+     * </pre>
+     * 로그인 지연 ≈ 조회 + max(검증, 서명) + 저장. 토큰 저장은 검증과 겹치지 않는다.
+     * (검증과 병행해 저장하면 실패한 시도마다 저장 + 삭제가 생기므로, 저장 1회의 지연을 감수한다)
+     */
+    public CompletableFuture<LoginResponse> loginAsync(LoginRequest request, String clientIp) {
+        String username = request.username();
+        loginThrottle.checkAllowed(username, clientIp);
 
-        return new LoginResponse(
-                accessToken,
-                refreshToken,
-                JwtProvider.TOKEN_PREFIX.trim(),
-                jwtProvider.getAccessTokenExpireSeconds());
+        UserDetailsImpl principal = loadPrincipal(username);
+        if (principal == null) {
+            // 존재하지 않는 아이디도 같은 비용의 해시 검증을 거쳐 응답 시간으로 계정 존재 여부가 드러나지 않게 한다.
+            return passwordEncoder.matchesAsync(request.password(), dummyPasswordHash)
+                    .thenApplyAsync(ignored -> {
+                        loginThrottle.onFailure(username, clientIp);
+                        throw new BadCredentialsException("Bad credentials");
+                    }, taskExecutor);
+        }
+        ACCOUNT_STATUS_CHECKER.check(principal);
+
+        CompletableFuture<Boolean> verified = passwordEncoder.matchesAsync(request.password(), principal.getPassword());
+
+        // 검증과 병행: 서명 + 리프레시 토큰 값 생성 (저장은 검증 성공 후)
+        String accessToken;
+        String refreshToken;
+        try {
+            accessToken = jwtProvider.generateAccessToken(principal.publicId(), principal.getAuthorities());
+            refreshToken = refreshTokenGenerator.generate();
+        } catch (RuntimeException e) {
+            verified.cancel(false);
+            throw e;
+        }
+
+        return verified.handleAsync((matched, failure) -> {
+            if (failure != null) {
+                throw failure instanceof CompletionException ce ? ce : new CompletionException(failure);
+            }
+            if (!matched) {
+                loginThrottle.onFailure(username, clientIp);
+                throw new BadCredentialsException("Bad credentials");
+            }
+
+            loginThrottle.onSuccess(username);
+            saveRefreshToken(refreshToken, principal.publicId());
+            upgradePasswordIfNeeded(principal, request.password());
+            return new LoginResponse(
+                    accessToken,
+                    refreshToken,
+                    JwtProvider.TOKEN_PREFIX.trim(),
+                    jwtProvider.getAccessTokenExpireSeconds());
+        }, taskExecutor);
     }
 
     @Transactional
@@ -58,16 +168,19 @@ public class AuthService {
             throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
         }
 
-        User user = userRepository.findByPublicId(stored.publicId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // 액세스 토큰 발급에는 권한만 필요하므로 User 엔티티 대신 권한만 조회 (SQL 1회)
+        List<SimpleGrantedAuthority> authorities = userRepository.findRolesByPublicId(stored.publicId()).stream()
+                .map(role -> new SimpleGrantedAuthority(role.authority()))
+                .toList();
+        if (authorities.isEmpty()) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
         // 토큰 로테이션: 기존 삭제 후 신규 발급
         refreshTokenStore.deleteByToken(refreshToken);
-        String newRefreshToken = issueRefreshToken(user.getPublicId());
+        String newRefreshToken = issueRefreshToken(stored.publicId());
 
-        UserDetailsImpl userDetails = new UserDetailsImpl(user);
-        Authentication auth = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-        String newAccessToken = jwtProvider.generateAccessToken(auth);
+        String newAccessToken = jwtProvider.generateAccessToken(stored.publicId(), authorities);
 
         return new LoginResponse(
                 newAccessToken,
@@ -81,15 +194,77 @@ public class AuthService {
         refreshTokenStore.deleteByToken(refreshToken);
     }
 
+    /**
+     * 모든 리프레시 토큰을 삭제하고, 커밋 후 전체 노드에 USER_LOGGED_OUT_ALL 을 전파해
+     * 이미 발급된 액세스 토큰과 인증 주체 캐시를 무효화한다.
+     */
     @Transactional
     public void logoutAll(UUID publicId) {
         refreshTokenStore.deleteByPublicId(publicId);
+        sessionEventBus.publish(SessionEvent.Type.USER_LOGGED_OUT_ALL, publicId);
+    }
+
+    /**
+     * 저장된 해시가 현재 기본 알고리즘/비용보다 약하면(BCrypt → Argon2id, 비용 상향 등)
+     * 검증에 성공한 평문으로 재해시해 UPDATE 1회로 저장한다.
+     * <pre>
+     * - 해시 풀에 encodeAsync 로 제출만 하고 기다리지 않는다.
+     *   검증 완료 콜백은 풀 작업이 끝난 뒤 실행되므로 풀 내부 호출로 취급되지 않는다.
+     *   여기서 encode 로 기다리면 풀 크기만큼 동시 재해시 로그인이 들어올 때 모든 풀 스레드가
+     *   큐에 쌓인 자기 encode 를 기다리며 멈춘다.
+     * - 해시 결과의 UPDATE 는 taskExecutor 에서 실행한다. (해시 풀 스레드를 DB I/O 로 점유하지 않음)
+     * </pre>
+     * 재해시는 부가 작업이므로 실패해도 로그인은 성공시키고, 다음 로그인에서 다시 시도한다.
+     * 다른 노드의 인증 주체 캐시에 남은 이전 해시는 PASSWORD_REHASHED 로 제거한다. (비밀번호는 같으므로 토큰은 유지)
+     * 재해시도 수정 버전을 올리므로 프로필 캐시도 같은 이벤트로 제거된다.
+     */
+    private void upgradePasswordIfNeeded(UserDetailsImpl userDetails, String rawPassword) {
+        try {
+            if (!passwordEncoder.upgradeEncoding(userDetails.getPassword())) {
+                return;
+            }
+
+            passwordEncoder.encodeAsync(rawPassword)
+                    .thenAcceptAsync(hash -> savePasswordHash(userDetails, hash), taskExecutor)
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        logRehashFailed(userDetails, cause);
+                        return null;
+                    });
+        } catch (RuntimeException e) {
+            // 해시 풀 큐 포화(SERVICE_BUSY) 등 제출 실패
+            logRehashFailed(userDetails, e);
+        }
+    }
+
+    private void savePasswordHash(UserDetailsImpl userDetails, String hash) {
+        userRepository.updatePassword(userDetails.id(), hash, LocalDateTime.now());
+        principalCache.invalidate(userDetails.getUsername());
+        sessionEventBus.publish(SessionEvent.Type.PASSWORD_REHASHED, userDetails.publicId());
+        log.info("event=password_rehashed public_id={}", userDetails.publicId());
+    }
+
+    private static void logRehashFailed(UserDetailsImpl userDetails, Throwable e) {
+        log.warn("event=password_rehash_failed public_id={} exception={} message={}",
+                userDetails.publicId(), e.getClass().getSimpleName(), e.getMessage());
+    }
+
+    private UserDetailsImpl loadPrincipal(String username) {
+        try {
+            return (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
     }
 
     private String issueRefreshToken(UUID publicId) {
-        String token = UUID.randomUUID().toString();
+        String token = refreshTokenGenerator.generate();
+        saveRefreshToken(token, publicId);
+        return token;
+    }
+
+    private void saveRefreshToken(String token, UUID publicId) {
         Instant expiresAt = Instant.now().plusSeconds(jwtProvider.getRefreshTokenExpireSeconds());
         refreshTokenStore.save(token, publicId, expiresAt);
-        return token;
     }
 }
@@ -5,54 +5,81 @@ import com.example.api.exception.BusinessException;
 import com.example.api.exception.ErrorCode;
 import com.example.api.repository.RefreshTokenRepository;
 import com.example.api.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
-// Redis 전환으로 비활성화. DB 기반 구현이 필요할 때 @Component 추가 후 사용.
-// @Component
-@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "jpa")
 public class JpaRefreshTokenStore implements RefreshTokenStore {
 
     private final RefreshTokenRepository repository;
     private final UserRepository userRepository;
 
+    /**
+     * refresh-token.write-behind.enabled=true 일 때만 존재 (null 이면 동기 INSERT)
+     */
+    private final RefreshTokenWriteBehindBuffer writeBehind;
+
+    public JpaRefreshTokenStore(
+            RefreshTokenRepository repository,
+            UserRepository userRepository,
+            ObjectProvider<RefreshTokenWriteBehindBuffer> writeBehind
+    ) {
+        this.repository = repository;
+        this.userRepository = userRepository;
+        this.writeBehind = writeBehind.getIfAvailable();
+    }
+
     @Override
     @Transactional
     public void save(String token, UUID publicId, Instant expiresAt) {
-        Long userId = userRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND))
-                .getId();
+        if (writeBehind != null) {
+            writeBehind.enqueue(token, publicId, expiresAt);
+            return;
+        }
+
+        // User 엔티티 대신 PK 컬럼만 조회
+        Long userId = userRepository.findIdByPublicId(publicId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         repository.save(RefreshToken.create(token, userId, expiresAt));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<TokenInfo> findByToken(String token) {
-        return repository.findByToken(token)
-                .map(rt -> {
-                    UUID publicId = userRepository.findById(rt.getUserId())
-                            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND))
-                            .getPublicId();
-                    return new TokenInfo(token, publicId, rt.getExpiresAt());
-                });
+        if (writeBehind != null) {
+            Optional<TokenInfo> buffered = writeBehind.find(token);
+            if (buffered.isPresent()) {
+                return buffered;
+            }
+        }
+
+        return repository.findTokenOwner(token)
+                .map(owner -> new TokenInfo(owner.getToken(), owner.getPublicId(), owner.getExpiresAt()));
     }
 
     @Override
     @Transactional
     public void deleteByToken(String token) {
+        // 아직 플러시 전인 토큰이면 DB 에는 없으므로 DELETE 생략
+        if (writeBehind != null && writeBehind.discard(token)) {
+            return;
+        }
         repository.deleteByToken(token);
     }
 
     @Override
     @Transactional
     public void deleteByPublicId(UUID publicId) {
-        Long userId = userRepository.findByPublicId(publicId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND))
-                .getId();
-        repository.deleteByUserId(userId);
+        if (writeBehind != null) {
+            writeBehind.discardAll(publicId);
+        }
+        repository.deleteByPublicId(publicId);
     }
 }
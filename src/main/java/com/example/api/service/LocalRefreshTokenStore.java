@@ -0,0 +1,258 @@
+package com.example.api.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 단일 노드 배포용 로컬 메모리 리프레시 토큰 저장소. (refresh-token.store=local)
+ * <pre>
+ * - 토큰 원문 대신 SHA-256 다이제스트 앞 128bit 를 키로 primitive 해시 테이블(LocalTokenTable)에 저장한다.
+ * - 만료는 타이밍 휠(TimingWheel)로 tick-millis 마다 해당 구간만 정리한다. (전체 스캔 없음)
+ * - 전체 로그아웃은 테이블 안의 사용자별 슬롯 연결 리스트로 처리한다. (힙 컬렉션 없음, 스냅샷 복원 시 함께 재구성)
+ * - snapshot-file 을 지정하면 종료 시 및 snapshot-interval-millis 마다 메모리 맵 파일로 스냅샷을 남기고,
+ *   기동 시 만료되지 않은 엔트리를 복원한다. (비정상 종료 시 마지막 스냅샷 이후 변경분은 유실)
+ * - 여러 노드가 토큰을 공유할 수 없으므로 다중 인스턴스 배포에서는 redis/jpa 를 사용한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "local")
+public class LocalRefreshTokenStore implements RefreshTokenStore {
+
+    // ---- snapshot file layout ----
+    private static final int SNAPSHOT_MAGIC = 0x52544B31;   // "RTK1"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 3;
+    private static final int ENTRY_BYTES = Long.BYTES * 5;  // keyHi, keyLo, ownerMsb, ownerLsb, expiresAt
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final LocalTokenTable table;
+    private final TimingWheel wheel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Path snapshotFile;
+
+    public LocalRefreshTokenStore(
+            @Value("${refresh-token.local.initial-capacity:1024}") int initialCapacity,
+            @Value("${refresh-token.local.tick-millis:60000}") long tickMillis,
+            @Value("${refresh-token.local.wheel-size:1024}") int wheelSize,
+            @Value("${refresh-token.local.snapshot-file:}") String snapshotFile
+    ) {
+        this.table = new LocalTokenTable(initialCapacity);
+        this.wheel = new TimingWheel(tickMillis, wheelSize, System.currentTimeMillis());
+        this.snapshotFile = StringUtils.hasText(snapshotFile) ? Path.of(snapshotFile) : null;
+    }
+
+    @Override
+    public void save(String token, UUID publicId, Instant expiresAt) {
+        TokenKey key = digest(token);
+        lock.writeLock().lock();
+        try {
+            put(key, publicId.getMostSignificantBits(), publicId.getLeastSignificantBits(), expiresAt.toEpochMilli());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<TokenInfo> findByToken(String token) {
+        TokenKey key = digest(token);
+        lock.readLock().lock();
+        try {
+            int i = table.find(key.hi(), key.lo());
+            if (i < 0) return Optional.empty();
+            UUID publicId = new UUID(table.ownerMsb(i), table.ownerLsb(i));
+            return Optional.of(new TokenInfo(token, publicId, Instant.ofEpochMilli(table.expiresAt(i))));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteByToken(String token) {
+        TokenKey key = digest(token);
+        lock.writeLock().lock();
+        try {
+            int i = table.find(key.hi(), key.lo());
+            if (i >= 0) {
+                table.removeAt(i);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteByPublicId(UUID publicId) {
+        lock.writeLock().lock();
+        try {
+            table.removeByOwner(publicId.getMostSignificantBits(), publicId.getLeastSignificantBits());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 지나간 tick 구간의 만료 토큰을 정리한다. (휠 슬롯에 남은 삭제된 키도 함께 정리)
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.local.tick-millis:60000}")
+    public void expire() {
+        int[] expired = {0};
+        lock.writeLock().lock();
+        try {
+            wheel.advance(System.currentTimeMillis(), (hi, lo, now) -> {
+                int i = table.find(hi, lo);
+                if (i < 0) {
+                    return true;
+                }
+                if (table.expiresAt(i) > now) {
+                    return false;
+                }
+                table.removeAt(i);
+                expired[0]++;
+                return true;
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (expired[0] > 0) {
+            log.debug("event=local_refresh_token_expired count={} size={}", expired[0], table.size());
+        }
+    }
+
+    @PostConstruct
+    void restore() throws IOException {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES
+                    || buffer.getInt() != SNAPSHOT_MAGIC
+                    || buffer.getInt() != SNAPSHOT_VERSION) {
+                log.warn("event=local_refresh_token_snapshot_ignored file={} reason=unknown_format", snapshotFile);
+                return;
+            }
+
+            int count = buffer.getInt();
+            if ((long) count * ENTRY_BYTES > buffer.remaining()) {
+                log.warn("event=local_refresh_token_snapshot_ignored file={} reason=truncated", snapshotFile);
+                return;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (int n = 0; n < count; n++) {
+                    TokenKey key = new TokenKey(buffer.getLong(), buffer.getLong());
+                    long msb = buffer.getLong();
+                    long lsb = buffer.getLong();
+                    long expiresAt = buffer.getLong();
+                    if (expiresAt > now) {
+                        put(key, msb, lsb, expiresAt);
+                        restored++;
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("event=local_refresh_token_restored file={} restored={}", snapshotFile, restored);
+    }
+
+    @Scheduled(
+            initialDelayString = "${refresh-token.local.snapshot-interval-millis:300000}",
+            fixedDelayString = "${refresh-token.local.snapshot-interval-millis:300000}"
+    )
+    public void scheduledSnapshot() throws IOException {
+        snapshot();
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() throws IOException {
+        snapshot();
+    }
+
+    /**
+     * 임시 파일에 메모리 맵으로 기록 후 fsync → 원자적 교체.
+     * 읽기 잠금만 잡으므로 스냅샷 중에도 조회는 계속 처리된다.
+     */
+    void snapshot() throws IOException {
+        if (snapshotFile == null) {
+            return;
+        }
+
+        Path temp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        int count;
+        lock.readLock().lock();
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            count = table.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) count * ENTRY_BYTES);
+            buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(count);
+            table.forEachSlot(i -> writeEntry(buffer, i));
+            buffer.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("event=local_refresh_token_snapshot file={} count={}", snapshotFile, count);
+    }
+
+    private void writeEntry(ByteBuffer buffer, int i) {
+        buffer.putLong(table.keyHi(i))
+                .putLong(table.keyLo(i))
+                .putLong(table.ownerMsb(i))
+                .putLong(table.ownerLsb(i))
+                .putLong(table.expiresAt(i));
+    }
+
+    /** write lock 보유 상태에서 호출 */
+    private void put(TokenKey key, long msb, long lsb, long expiresAtMillis) {
+        table.put(key.hi(), key.lo(), msb, lsb, expiresAtMillis);
+        wheel.schedule(key.hi(), key.lo(), expiresAtMillis);
+    }
+
+    private static TokenKey digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer bb = ByteBuffer.wrap(hash);
+        return new TokenKey(bb.getLong(), bb.getLong());
+    }
+
+    private record TokenKey(long hi, long lo) {
+    }
+}
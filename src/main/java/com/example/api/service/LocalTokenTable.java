@@ -0,0 +1,339 @@
+package com.example.api.service;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 토큰 다이제스트(128bit) → (소유자 UUID, 만료 시각) 을 저장하는 primitive 배열 기반 해시 테이블.
+ * <pre>
+ * - 엔트리당 객체를 만들지 않고 long[] 병렬 배열에 저장한다. (선형 탐사, 삭제는 tombstone)
+ * - 키는 이미 균등 분포인 SHA-256 다이제스트 앞 16바이트이므로 별도 해시 믹싱을 하지 않는다.
+ * - 사용률(tombstone 포함)이 50%를 넘으면 재해시한다.
+ * - 사용자별 인덱스도 같은 방식으로 저장한다. (전체 로그아웃용)
+ *   소유자 UUID → 첫 슬롯을 담는 primitive 해시 테이블 + 슬롯별 이전/다음 슬롯 int[] (이중 연결 리스트)
+ *   인덱스는 엔트리의 소유자 값에서 다시 만들 수 있으므로 스냅샷에 따로 기록하지 않는다.
+ * - 스레드 안전하지 않다. 동기화는 LocalRefreshTokenStore 가 담당한다.
+ * </pre>
+ */
+final class LocalTokenTable {
+
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte DELETED = 2;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int NONE = -1;
+
+    private long[] keyHi;
+    private long[] keyLo;
+    private long[] ownerMsb;
+    private long[] ownerLsb;
+    private long[] expiresAt;
+    /** 같은 소유자의 이전/다음 슬롯 (없으면 NONE) */
+    private int[] prevOfOwner;
+    private int[] nextOfOwner;
+    private byte[] states;
+
+    private int mask;
+    private int size;
+    /** FULL + DELETED 슬롯 수 */
+    private int used;
+
+    // ---- 소유자 → 첫 슬롯 ----
+    private long[] userMsb;
+    private long[] userLsb;
+    private int[] userHead;
+    private byte[] userStates;
+    private int userMask;
+    private int userSize;
+    private int userUsed;
+
+    LocalTokenTable(int expectedSize) {
+        allocate(tableSizeFor(Math.max(MIN_CAPACITY, expectedSize * 2)));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return 토큰을 보유한 사용자 수
+     */
+    int ownerCount() {
+        return userSize;
+    }
+
+    /**
+     * @return 슬롯 인덱스, 없으면 -1
+     */
+    int find(long hi, long lo) {
+        int i = index(hi);
+        while (true) {
+            byte state = states[i];
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == FULL && keyHi[i] == hi && keyLo[i] == lo) {
+                return i;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    void put(long hi, long lo, long msb, long lsb, long expiresAtMillis) {
+        int existing = find(hi, lo);
+        if (existing >= 0) {
+            unlinkOwner(existing);
+            write(existing, hi, lo, msb, lsb, expiresAtMillis);
+            linkOwner(existing);
+            return;
+        }
+
+        if ((used + 1) * 2 > states.length) {
+            rehash(tableSizeFor(Math.max(MIN_CAPACITY, (size + 1) * 4)));
+        }
+
+        int i = index(hi);
+        while (states[i] == FULL) {
+            i = (i + 1) & mask;
+        }
+        if (states[i] == EMPTY) {
+            used++;
+        }
+        write(i, hi, lo, msb, lsb, expiresAtMillis);
+        states[i] = FULL;
+        linkOwner(i);
+        size++;
+    }
+
+    void removeAt(int i) {
+        unlinkOwner(i);
+        states[i] = DELETED;
+        size--;
+    }
+
+    /**
+     * 소유자의 모든 엔트리를 삭제한다. (해당 소유자 엔트리 수에 비례)
+     *
+     * @return 삭제된 엔트리 수
+     */
+    int removeByOwner(long msb, long lsb) {
+        int u = findOwner(msb, lsb);
+        if (u < 0) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (int i = userHead[u]; i != NONE; i = nextOfOwner[i]) {
+            states[i] = DELETED;
+            removed++;
+        }
+        size -= removed;
+        userStates[u] = DELETED;
+        userSize--;
+        return removed;
+    }
+
+    long ownerMsb(int i) {
+        return ownerMsb[i];
+    }
+
+    long ownerLsb(int i) {
+        return ownerLsb[i];
+    }
+
+    long expiresAt(int i) {
+        return expiresAt[i];
+    }
+
+    long keyHi(int i) {
+        return keyHi[i];
+    }
+
+    long keyLo(int i) {
+        return keyLo[i];
+    }
+
+    /**
+     * 저장된 모든 엔트리의 슬롯 인덱스를 순회한다. (순회 중 변경 금지)
+     */
+    void forEachSlot(IntConsumer action) {
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] == FULL) {
+                action.accept(i);
+            }
+        }
+    }
+
+    private void write(int i, long hi, long lo, long msb, long lsb, long expiresAtMillis) {
+        keyHi[i] = hi;
+        keyLo[i] = lo;
+        ownerMsb[i] = msb;
+        ownerLsb[i] = lsb;
+        expiresAt[i] = expiresAtMillis;
+    }
+
+    private void linkOwner(int i) {
+        int u = findOrAddOwner(ownerMsb[i], ownerLsb[i]);
+        int head = userHead[u];
+        prevOfOwner[i] = NONE;
+        nextOfOwner[i] = head;
+        if (head != NONE) {
+            prevOfOwner[head] = i;
+        }
+        userHead[u] = i;
+    }
+
+    private void unlinkOwner(int i) {
+        int prev = prevOfOwner[i];
+        int next = nextOfOwner[i];
+        if (next != NONE) {
+            prevOfOwner[next] = prev;
+        }
+        if (prev != NONE) {
+            nextOfOwner[prev] = next;
+            return;
+        }
+
+        int u = findOwner(ownerMsb[i], ownerLsb[i]);
+        if (next != NONE) {
+            userHead[u] = next;
+        } else {
+            userStates[u] = DELETED;
+            userSize--;
+        }
+    }
+
+    private int findOwner(long msb, long lsb) {
+        int u = ownerIndex(msb, lsb);
+        while (true) {
+            byte state = userStates[u];
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == FULL && userMsb[u] == msb && userLsb[u] == lsb) {
+                return u;
+            }
+            u = (u + 1) & userMask;
+        }
+    }
+
+    private int findOrAddOwner(long msb, long lsb) {
+        int existing = findOwner(msb, lsb);
+        if (existing >= 0) {
+            return existing;
+        }
+
+        if ((userUsed + 1) * 2 > userStates.length) {
+            rehashOwners(tableSizeFor(Math.max(MIN_CAPACITY, (userSize + 1) * 4)));
+        }
+
+        int u = ownerIndex(msb, lsb);
+        while (userStates[u] == FULL) {
+            u = (u + 1) & userMask;
+        }
+        if (userStates[u] == EMPTY) {
+            userUsed++;
+        }
+        userMsb[u] = msb;
+        userLsb[u] = lsb;
+        userHead[u] = NONE;
+        userStates[u] = FULL;
+        userSize++;
+        return u;
+    }
+
+    /**
+     * 토큰 슬롯이 모두 바뀌므로 사용자 인덱스도 새로 만든다.
+     */
+    private void rehash(int capacity) {
+        long[] oldHi = keyHi;
+        long[] oldLo = keyLo;
+        long[] oldMsb = ownerMsb;
+        long[] oldLsb = ownerLsb;
+        long[] oldExpiresAt = expiresAt;
+        byte[] oldStates = states;
+
+        allocate(capacity);
+        for (int j = 0; j < oldStates.length; j++) {
+            if (oldStates[j] != FULL) continue;
+            int i = index(oldHi[j]);
+            while (states[i] == FULL) {
+                i = (i + 1) & mask;
+            }
+            write(i, oldHi[j], oldLo[j], oldMsb[j], oldLsb[j], oldExpiresAt[j]);
+            states[i] = FULL;
+            linkOwner(i);
+            size++;
+            used++;
+        }
+    }
+
+    /**
+     * 토큰 슬롯은 그대로이므로 (소유자, 첫 슬롯) 만 옮긴다.
+     */
+    private void rehashOwners(int capacity) {
+        long[] oldMsb = userMsb;
+        long[] oldLsb = userLsb;
+        int[] oldHead = userHead;
+        byte[] oldStates = userStates;
+
+        allocateOwners(capacity);
+        for (int j = 0; j < oldStates.length; j++) {
+            if (oldStates[j] != FULL) continue;
+            int u = ownerIndex(oldMsb[j], oldLsb[j]);
+            while (userStates[u] == FULL) {
+                u = (u + 1) & userMask;
+            }
+            userMsb[u] = oldMsb[j];
+            userLsb[u] = oldLsb[j];
+            userHead[u] = oldHead[j];
+            userStates[u] = FULL;
+            userSize++;
+            userUsed++;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keyHi = new long[capacity];
+        keyLo = new long[capacity];
+        ownerMsb = new long[capacity];
+        ownerLsb = new long[capacity];
+        expiresAt = new long[capacity];
+        prevOfOwner = new int[capacity];
+        nextOfOwner = new int[capacity];
+        states = new byte[capacity];
+        mask = capacity - 1;
+        size = 0;
+        used = 0;
+        allocateOwners(MIN_CAPACITY);
+    }
+
+    private void allocateOwners(int capacity) {
+        userMsb = new long[capacity];
+        userLsb = new long[capacity];
+        userHead = new int[capacity];
+        Arrays.fill(userHead, NONE);
+        userStates = new byte[capacity];
+        userMask = capacity - 1;
+        userSize = 0;
+        userUsed = 0;
+    }
+
+    private int index(long hi) {
+        return (int) (hi ^ (hi >>> 32)) & mask;
+    }
+
+    /**
+     * UUID v7 은 상위 비트가 시각이므로 두 값을 섞어 분산시킨다.
+     */
+    private int ownerIndex(long msb, long lsb) {
+        long h = (msb ^ lsb) * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & userMask;
+    }
+
+    private static int tableSizeFor(int n) {
+        int highest = Integer.highestOneBit(Math.max(1, n - 1));
+        return highest >= (1 << 30) ? (1 << 30) : highest << 1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.api.service;
+
+import com.example.api.util.BoundedTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 조회 전체 개수(COUNT) 캐시. 키는 "대상:필터 조건" 서명이다.
+ * <pre>
+ * - totals 를 요청한 목록 조회가 같은 조건이면 ttl-seconds 동안 COUNT 를 재실행하지 않는다.
+ * - 개수는 최대 ttl 만큼 뒤처질 수 있다. (화면 표시용 근사치로 사용, 정확한 값이 필요하면 ttl 을 줄인다)
+ * - 메트릭: cache.* tag cache=page_count
+ * </pre>
+ */
+@Component
+public class PageCountCache {
+
+    private final boolean enabled;
+    private final BoundedTtlCache<String, Long> cache;
+
+    public PageCountCache(
+            @Value("${pagination.count-cache.enabled:true}") boolean enabled,
+            @Value("${pagination.count-cache.max-size:1000}") int maxSize,
+            @Value("${pagination.count-cache.ttl-seconds:10}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.cache = new BoundedTtlCache<String, Long>("page_count", maxSize, Duration.ofSeconds(ttlSeconds))
+                .bindTo(meterRegistry);
+    }
+
+    public long count(String signature, LongSupplier counter) {
+        if (!enabled) {
+            return counter.getAsLong();
+        }
+        return cache.get(signature, key -> counter.getAsLong());
+    }
+}
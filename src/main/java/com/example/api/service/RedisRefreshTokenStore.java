@@ -1,23 +1,40 @@
 package com.example.api.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 @Component
+@ConditionalOnProperty(name = "refresh-token.store", havingValue = "redis", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RedisRefreshTokenStore implements RefreshTokenStore {
 
     private static final String TOKEN_KEY_PREFIX = "refresh_token:";
     private static final String USER_TOKENS_KEY_PREFIX = "user_tokens:";
 
+    /**
+     * 전체 로그아웃 시 SSCAN 1회 + 파이프라인 1회로 처리하는 토큰 수
+     */
+    private static final int DELETE_CHUNK_SIZE = 1_000;
+
+    /**
+     * UNLINK 명령 1개에 담는 키 수 (단일 명령이 Redis 이벤트 루프를 오래 점유하지 않도록 제한)
+     */
+    private static final int UNLINK_KEYS_PER_COMMAND = 100;
+
     private final StringRedisTemplate redisTemplate;
 
     @Override
@@ -42,22 +59,57 @@ public class RedisRefreshTokenStore implements RefreshTokenStore {
     @Override
     public void deleteByToken(String token) {
         String publicId = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + token);
-        redisTemplate.delete(TOKEN_KEY_PREFIX + token);
+        redisTemplate.unlink(TOKEN_KEY_PREFIX + token);
         if (publicId != null) {
             redisTemplate.opsForSet().remove(USER_TOKENS_KEY_PREFIX + publicId, token);
         }
     }
 
+    /**
+     * 사용자의 모든 토큰 삭제 (전체 기기 로그아웃)
+     * <pre>
+     * - SMEMBERS 로 전체 집합을 한 번에 받지 않고 SSCAN 으로 {@value DELETE_CHUNK_SIZE}건씩 순회한다.
+     * - 삭제는 메모리 회수를 백그라운드 스레드로 넘기는 UNLINK 를 사용하고, 청크 단위로 파이프라인에 담아 왕복을 줄인다.
+     * - 토큰 키를 모두 지운 뒤 마지막에 user_tokens 집합 키를 지운다. (중간 실패 시 재시도 가능)
+     * </pre>
+     */
     @Override
     public void deleteByPublicId(UUID publicId) {
         String userTokensKey = USER_TOKENS_KEY_PREFIX + publicId;
-        Set<String> tokens = redisTemplate.opsForSet().members(userTokensKey);
-        if (tokens != null && !tokens.isEmpty()) {
-            List<String> tokenKeys = tokens.stream()
-                    .map(t -> TOKEN_KEY_PREFIX + t)
-                    .toList();
-            redisTemplate.delete(tokenKeys);
+        ScanOptions options = ScanOptions.scanOptions().count(DELETE_CHUNK_SIZE).build();
+
+        List<String> chunk = new ArrayList<>(DELETE_CHUNK_SIZE);
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(userTokensKey, options)) {
+            while (cursor.hasNext()) {
+                chunk.add(TOKEN_KEY_PREFIX + cursor.next());
+                if (chunk.size() >= DELETE_CHUNK_SIZE) {
+                    unlinkPipelined(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+
+        chunk.add(userTokensKey);
+        unlinkPipelined(chunk);
+    }
+
+    private void unlinkPipelined(List<String> keys) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keys.size(); from += UNLINK_KEYS_PER_COMMAND) {
+                List<String> slice = keys.subList(from, Math.min(from + UNLINK_KEYS_PER_COMMAND, keys.size()));
+                unlink(connection, serializer, slice);
+            }
+            return null;
+        });
+    }
+
+    private static void unlink(RedisConnection connection, RedisSerializer<String> serializer, List<String> keys) {
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < rawKeys.length; i++) {
+            rawKeys[i] = serializer.serialize(keys.get(i));
         }
-        redisTemplate.delete(userTokensKey);
+        connection.keyCommands().unlink(rawKeys);
     }
 }
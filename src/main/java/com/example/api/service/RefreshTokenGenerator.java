@@ -0,0 +1,66 @@
+package com.example.api.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 불투명(opaque) 리프레시 토큰 생성기.
+ * <pre>
+ * 형식: v1.{keyId}.{base64url(256bit 난수)}   예) v1.a1.Qm9ndXNUb2tlbi4uLg... (keyId 2자 기준 49자)
+ *
+ * - 256bit 난수 (UUID.randomUUID 는 122bit)
+ * - 스레드별 DRBG(SecureRandom "DRBG", 256bit 보안 강도) 인스턴스를 사용해 공유 SecureRandom 락 경합을 없앤다.
+ *   각 인스턴스는 생성 시 시스템 엔트로피 소스로 시딩되고, DRBG 가 주기적으로 재시딩한다.
+ * - keyId 는 발급 노드/키 공간 식별자. 저장소가 토큰만 보고 라우팅·샤딩할 수 있도록 접두사로 포함한다.
+ * </pre>
+ */
+@Component
+public class RefreshTokenGenerator {
+
+    public static final String VERSION = "v1";
+
+    private static final int RANDOM_BYTES = 32;
+    private static final Pattern KEY_ID_PATTERN = Pattern.compile("[A-Za-z0-9]{1,8}");
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final ThreadLocal<SecureRandom> DRBG = ThreadLocal.withInitial(() -> {
+        try {
+            return SecureRandom.getInstance("DRBG",
+                    DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("DRBG SecureRandom is not available", e);
+        }
+    });
+
+    private final String prefix;
+
+    public RefreshTokenGenerator(@Value("${refresh-token.key-id:a1}") String keyId) {
+        if (!KEY_ID_PATTERN.matcher(keyId).matches()) {
+            throw new IllegalArgumentException("refresh-token.key-id must be 1-8 alphanumeric characters");
+        }
+        this.prefix = VERSION + "." + keyId + ".";
+    }
+
+    public String generate() {
+        byte[] bytes = new byte[RANDOM_BYTES];
+        DRBG.get().nextBytes(bytes);
+        return prefix + ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * 토큰에 포함된 keyId. 형식이 다르면(구버전 UUID 토큰 등) null.
+     */
+    public static String keyIdOf(String token) {
+        if (token == null || !token.startsWith(VERSION + ".")) {
+            return null;
+        }
+        int end = token.indexOf('.', VERSION.length() + 1);
+        return end < 0 ? null : token.substring(VERSION.length() + 1, end);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.api.service;
+
+import com.example.api.repository.RefreshTokenRepository;
+import com.example.api.repository.RefreshTokenRepository.ExpiredTokenKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB(refresh_tokens)에 남아 있는 만료 리프레시 토큰을 주기적으로 정리하는 스위퍼.
+ * <pre>
+ * - JpaRefreshTokenStore 사용 시에만 의미가 있으므로 refresh-token.sweeper.enabled=true 일 때만 등록된다.
+ * - 스케줄러 스레드는 트리거만 하고, 실제 삭제는 taskExecutor 에서 수행한다. (실행 중이면 중복 트리거 무시)
+ * - expires_at 인덱스 기준 keyset 페이지네이션으로 batch-size 만큼씩 조회 → id IN (...) 단건 DELETE 를 반복한다.
+ * - 배치마다 별도 트랜잭션으로 커밋하고 pause-millis 만큼 쉬어 긴 트랜잭션·락 점유를 피한다.
+ * </pre>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "refresh-token.sweeper", name = "enabled", havingValue = "true")
+public class RefreshTokenSweeper {
+
+    private final RefreshTokenRepository repository;
+    private final Executor taskExecutor;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RefreshTokenSweeper(
+            RefreshTokenRepository repository,
+            @Qualifier("taskExecutor") Executor taskExecutor,
+            @Value("${refresh-token.sweeper.batch-size:500}") int batchSize,
+            @Value("${refresh-token.sweeper.pause-millis:100}") long pauseMillis
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("refresh-token.sweeper.batch-size must be positive: " + batchSize);
+        }
+        this.repository = repository;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = batchSize;
+        this.pauseMillis = Math.max(0, pauseMillis);
+    }
+
+    @Scheduled(
+            initialDelayString = "${refresh-token.sweeper.initial-delay-millis:60000}",
+            fixedDelayString = "${refresh-token.sweeper.interval-millis:600000}"
+    )
+    public void trigger() {
+        if (!running.compareAndSet(false, true)) {
+            log.debug("event=refresh_token_sweep_skipped reason=already_running");
+            return;
+        }
+
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    sweep();
+                } catch (Exception e) {
+                    log.error("event=refresh_token_sweep_failed exception={} message={}",
+                            e.getClass().getSimpleName(), e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            log.warn("event=refresh_token_sweep_skipped reason=executor_rejected");
+        }
+    }
+
+    /**
+     * 현재 시각 기준으로 만료된 토큰을 모두 삭제하고 삭제된 행 수를 반환한다.
+     */
+    public long sweep() {
+        long startedAt = System.nanoTime();
+        Instant now = Instant.now();
+
+        // keyset 커서: 직전 배치의 마지막 (expiresAt, id)
+        Instant lastExpiresAt = Instant.EPOCH;
+        long lastId = 0L;
+
+        long swept = 0;
+        int batches = 0;
+
+        while (true) {
+            List<ExpiredTokenKey> keys = repository.findExpiredKeys(now, lastExpiresAt, lastId, Limit.of(batchSize));
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            // 배치 단위 트랜잭션 (repository 메서드 경계에서 커밋)
+            swept += repository.deleteByIdIn(keys.stream().map(ExpiredTokenKey::getId).toList());
+            batches++;
+
+            ExpiredTokenKey last = keys.getLast();
+            lastExpiresAt = last.getExpiresAt();
+            lastId = last.getId();
+
+            if (keys.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+
+        log.info("event=refresh_token_sweep swept={} batches={} batch_size={} elapsed_ms={}",
+                swept, batches, batchSize, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return swept;
+    }
+
+    private boolean pause() {
+        if (pauseMillis == 0) return true;
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
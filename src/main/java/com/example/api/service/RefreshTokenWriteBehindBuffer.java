@@ -0,0 +1,359 @@
+package com.example.api.service;
+
+import com.example.api.converter.UuidToBytesConverter;
+import com.example.api.entity.RefreshToken;
+import com.example.api.repository.SequenceIdAllocator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JpaRefreshTokenStore 의 write-behind(지연 쓰기) 버퍼.
+ * <pre>
+ * - save 는 메모리 pending 맵에 넣고 큐에 적재한 뒤 즉시 반환한다. (로그인 트랜잭션에서 INSERT 제거)
+ * - pending 맵에 있는 동안에도 findByToken 으로 즉시 조회된다.
+ * - 백그라운드 워커 1개가 큐를 batch-size 단위로 모아 JDBC 배치 INSERT 후 1회 커밋한다.
+ *   (첫 건 도착 후 최대 max-linger-millis 만큼 더 모은다)
+ * - 큐(queue-capacity)가 가득 차면 호출 스레드에서 동기 INSERT 한다. (유실 대신 백프레셔)
+ * - 배치가 실패하면 건별로 다시 INSERT 해 문제 행만 골라낸다.
+ *   제약조건 위반 등 재시도해도 실패할 행은 버리고(에러 로그), 일시 장애는 max-attempts 회까지 큐에 되돌려 재시도한다.
+ * - 버퍼의 INSERT 는 항상 별도 트랜잭션(REQUIRES_NEW)으로 커밋한다.
+ *   동기 INSERT 가 호출자 트랜잭션에 참여하면, 호출자 롤백 시 pending 에서 이미 제거된 토큰이 유실되기 때문.
+ * - 종료 시 남은 큐를 모두 플러시한다. (shutdown-timeout-millis 까지 대기)
+ * </pre>
+ *
+ * <p><b>장애 시 유실 범위 (crash window)</b></p>
+ * <ul>
+ *   <li>정상 종료: 유실 없음.</li>
+ *   <li>비정상 종료(kill -9, OOM, 장비 장애): 아직 커밋되지 않은 토큰(최대 queue-capacity 건, 통상 max-linger-millis 구간)이 유실된다.
+ *       유실된 토큰으로 갱신을 시도하면 REFRESH_TOKEN_NOT_FOUND 가 발생하고 사용자는 다시 로그인해야 한다.</li>
+ *   <li>이 트레이드오프를 허용할 수 없다면 refresh-token.write-behind.enabled=false(기본값)로 동기 INSERT 를 사용한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "refresh-token.write-behind", name = "enabled", havingValue = "true")
+public class RefreshTokenWriteBehindBuffer {
+
+    /**
+     * publicId → user_id 변환을 INSERT ... SELECT 로 처리해 배치당 추가 조회가 없도록 한다.
+     * id 는 SequenceIdAllocator 로 배치 단위로 미리 확보한다.
+     */
+    private static final String INSERT_SQL = """
+            insert into refresh_tokens (id, token, user_id, expires_at)
+            select ?, ?, u.id, ? from users u where u.public_id = ?
+            """;
+
+    private static final long IDLE_POLL_MILLIS = 500;
+    private static final long RETRY_BACKOFF_MILLIS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long maxLingerNanos;
+    private final long shutdownTimeoutMillis;
+
+    private final Map<String, PendingToken> pending = new ConcurrentHashMap<>();
+    private final BlockingQueue<String> queue;
+
+    /**
+     * 일시 장애로 실패한 토큰별 시도 횟수
+     */
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+
+    /**
+     * 플러시와 삭제(discard)를 직렬화한다.
+     * 플러시 도중 삭제된 토큰이 INSERT 되어 되살아나는 것을 막기 위함.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public RefreshTokenWriteBehindBuffer(
+            JdbcTemplate jdbcTemplate,
+            SequenceIdAllocator idAllocator,
+            PlatformTransactionManager transactionManager,
+            @Value("${refresh-token.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${refresh-token.write-behind.batch-size:200}") int batchSize,
+            @Value("${refresh-token.write-behind.max-linger-millis:50}") long maxLingerMillis,
+            @Value("${refresh-token.write-behind.max-attempts:5}") int maxAttempts,
+            @Value("${refresh-token.write-behind.shutdown-timeout-millis:10000}") long shutdownTimeoutMillis
+    ) {
+        if (queueCapacity <= 0 || batchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("refresh-token.write-behind queue-capacity/batch-size/max-attempts must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, maxLingerMillis));
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::runWorker, "refresh-token-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        worker.join(shutdownTimeoutMillis);
+
+        // 워커가 시간 내 끝내지 못한 잔량은 종료 스레드에서 직접 플러시
+        List<String> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            flush(rest.subList(from, Math.min(from + batchSize, rest.size())));
+        }
+        log.info("event=refresh_token_write_behind_stopped flushed_on_shutdown={} remaining={}", rest.size(), pending.size());
+    }
+
+    public void enqueue(String token, UUID publicId, Instant expiresAt) {
+        pending.put(token, new PendingToken(publicId, expiresAt));
+        if (!queue.offer(token) && !insertNow(token)) {
+            // 큐 포화 시 호출 스레드에서 동기 INSERT (백프레셔). 이마저 실패하면 발급 실패로 처리
+            pending.remove(token);
+            throw new IllegalStateException("Failed to persist refresh token");
+        }
+    }
+
+    public Optional<RefreshTokenStore.TokenInfo> find(String token) {
+        PendingToken p = pending.get(token);
+        return p == null
+                ? Optional.empty()
+                : Optional.of(new RefreshTokenStore.TokenInfo(token, p.publicId(), p.expiresAt()));
+    }
+
+    /**
+     * 아직 DB 에 쓰이지 않은 토큰이면 버퍼에서 제거하고 true 를 반환한다.
+     * true 인 경우 DB 에는 해당 토큰이 존재하지 않음이 보장된다.
+     */
+    public boolean discard(String token) {
+        flushLock.lock();
+        try {
+            return pending.remove(token) != null;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public void discardAll(UUID publicId) {
+        flushLock.lock();
+        try {
+            pending.values().removeIf(p -> p.publicId().equals(publicId));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void runWorker() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<String> batch = collectBatch();
+                List<String> retry = batch.isEmpty() ? List.of() : flush(batch);
+                if (!retry.isEmpty()) {
+                    requeue(retry);
+                    Thread.sleep(RETRY_BACKOFF_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<String> collectBatch() throws InterruptedException {
+        List<String> batch = new ArrayList<>(batchSize);
+        String head = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (head == null) {
+            return batch;
+        }
+        batch.add(head);
+
+        long deadline = System.nanoTime() + maxLingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            String next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * pending 에 남아 있는 토큰만 배치 INSERT 후 커밋하고, 커밋이 끝난 토큰을 pending 에서 제거한다.
+     * 배치가 실패하면 건별로 다시 시도한다.
+     *
+     * @return 일시 장애로 다시 시도해야 하는 토큰 (비어 있으면 처리 완료)
+     */
+    private List<String> flush(List<String> tokens) {
+        flushLock.lock();
+        try {
+            List<Map.Entry<String, PendingToken>> rows = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                PendingToken p = pending.get(token);
+                if (p != null) {
+                    rows.add(Map.entry(token, p));
+                } else {
+                    attempts.remove(token);
+                }
+            }
+            if (rows.isEmpty()) {
+                return List.of();
+            }
+
+            try {
+                insert(rows);
+                rows.forEach(this::completed);
+                return List.of();
+            } catch (Exception e) {
+                log.warn("event=refresh_token_write_behind_batch_failed size={} exception={} message={}",
+                        rows.size(), e.getClass().getSimpleName(), e.getMessage());
+            }
+            return flushEach(rows);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 건별 INSERT. 제약조건 위반 행은 버리고, 그 외 오류는 DB 장애로 보고 남은 행을 모두 재시도 대상으로 돌린다.
+     */
+    private List<String> flushEach(List<Map.Entry<String, PendingToken>> rows) {
+        List<String> retry = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map.Entry<String, PendingToken> row = rows.get(i);
+            try {
+                insert(List.of(row));
+                completed(row);
+            } catch (DataIntegrityViolationException e) {
+                reject(row, e);
+            } catch (Exception e) {
+                log.error("event=refresh_token_write_behind_flush_failed size={} exception={} message={}",
+                        rows.size() - i, e.getClass().getSimpleName(), e.getMessage(), e);
+                for (Map.Entry<String, PendingToken> rest : rows.subList(i, rows.size())) {
+                    if (attempts.merge(rest.getKey(), 1, Integer::sum) < maxAttempts) {
+                        retry.add(rest.getKey());
+                    } else {
+                        reject(rest, e);
+                    }
+                }
+                break;
+            }
+        }
+        return retry;
+    }
+
+    /**
+     * 큐 포화 시 호출 스레드에서 1건 동기 INSERT
+     */
+    private boolean insertNow(String token) {
+        flushLock.lock();
+        try {
+            PendingToken p = pending.get(token);
+            if (p == null) {
+                return true;
+            }
+            Map.Entry<String, PendingToken> row = Map.entry(token, p);
+            insert(List.of(row));
+            completed(row);
+            return true;
+        } catch (Exception e) {
+            log.error("event=refresh_token_write_behind_flush_failed size=1 exception={} message={}",
+                    e.getClass().getSimpleName(), e.getMessage(), e);
+            return false;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void insert(List<Map.Entry<String, PendingToken>> rows) {
+        Iterator<Long> ids = idAllocator.allocate(
+                RefreshToken.ID_SEQUENCE, RefreshToken.ID_ALLOCATION_SIZE, rows.size()).iterator();
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (Map.Entry<String, PendingToken> row : rows) {
+            args.add(new Object[]{
+                    ids.next(),
+                    row.getKey(),
+                    Timestamp.from(row.getValue().expiresAt()),
+                    UuidToBytesConverter.toBytes(row.getValue().publicId())});
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, args));
+    }
+
+    private void completed(Map.Entry<String, PendingToken> row) {
+        pending.remove(row.getKey(), row.getValue());
+        attempts.remove(row.getKey());
+    }
+
+    /**
+     * 재시도해도 저장할 수 없는 토큰을 버퍼에서 제거한다. (해당 토큰으로 갱신 시 재로그인 필요)
+     * 토큰 원문은 로그에 남기지 않는다.
+     */
+    private void reject(Map.Entry<String, PendingToken> row, Exception e) {
+        log.error("event=refresh_token_write_behind_rejected public_id={} attempts={} exception={} message={}",
+                row.getValue().publicId(), attempts.getOrDefault(row.getKey(), 1),
+                e.getClass().getSimpleName(), e.getMessage());
+        completed(row);
+    }
+
+    /**
+     * 플러시 실패 시 재시도를 위해 큐에 되돌린다. (pending 에 남아 있으므로 조회는 계속 가능)
+     * 큐에 자리가 없으면 해당 토큰은 유실로 처리한다.
+     */
+    private void requeue(List<String> batch) {
+        int dropped = 0;
+        for (String token : batch) {
+            if (!queue.offer(token)) {
+                attempts.remove(token);
+                if (pending.remove(token) != null) {
+                    dropped++;
+                }
+            }
+        }
+        if (dropped > 0) {
+            log.error("event=refresh_token_write_behind_dropped count={}", dropped);
+        }
+    }
+
+    private record PendingToken(UUID publicId, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.api.service;
+
+import java.util.Arrays;
+
+/**
+ * 만료 시각 기준으로 (keyHi, keyLo) 쌍을 버킷에 담아두는 해시드 타이밍 휠.
+ * <pre>
+ * - 슬롯 = ceil(만료시각 / tick) mod wheelSize. 한 바퀴(tick × wheelSize)보다 먼 만료는 같은 슬롯에서 다음 바퀴를 기다린다.
+ * - advance 시 지나간 tick 의 슬롯만 훑으므로 만료 처리 비용이 전체 엔트리 수가 아니라 해당 구간 엔트리 수에 비례한다.
+ * - 슬롯은 long[] 에 (hi, lo) 를 이어 붙여 저장한다. (엔트리당 객체 없음)
+ * - 스레드 안전하지 않다. 동기화는 LocalRefreshTokenStore 가 담당한다.
+ * </pre>
+ */
+final class TimingWheel {
+
+    /**
+     * advance 중 슬롯의 각 엔트리에 대해 호출된다.
+     * true 를 반환하면 슬롯에서 제거(만료 처리 완료 또는 이미 삭제됨), false 면 다음 바퀴까지 유지.
+     */
+    @FunctionalInterface
+    interface ExpiryHandler {
+        boolean onTick(long hi, long lo, long nowMillis);
+    }
+
+    private static final int INITIAL_SLOT_CAPACITY = 8;
+
+    private final long tickMillis;
+    private final long[][] slots;
+    private final int[] slotSizes;
+    private final int mask;
+
+    /** 마지막으로 처리한 tick */
+    private long currentTick;
+
+    TimingWheel(long tickMillis, int wheelSize, long nowMillis) {
+        if (tickMillis <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize a power of two");
+        }
+        this.tickMillis = tickMillis;
+        this.slots = new long[wheelSize][];
+        this.slotSizes = new int[wheelSize];
+        this.mask = wheelSize - 1;
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    void schedule(long hi, long lo, long expiresAtMillis) {
+        long tick = Math.max(Math.ceilDiv(expiresAtMillis, tickMillis), currentTick + 1);
+        int slot = (int) (tick & mask);
+
+        long[] entries = slots[slot];
+        int size = slotSizes[slot];
+        if (entries == null) {
+            entries = slots[slot] = new long[INITIAL_SLOT_CAPACITY * 2];
+        } else if (size + 2 > entries.length) {
+            entries = slots[slot] = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[size] = hi;
+        entries[size + 1] = lo;
+        slotSizes[slot] = size + 2;
+    }
+
+    /**
+     * nowMillis 까지 지나간 tick 의 슬롯을 처리하고, 슬롯에서 제거된 엔트리 수를 반환한다.
+     */
+    int advance(long nowMillis, ExpiryHandler handler) {
+        long targetTick = nowMillis / tickMillis;
+        if (targetTick <= currentTick) {
+            return 0;
+        }
+
+        // 한 바퀴 이상 밀렸으면 모든 슬롯을 한 번씩만 처리하면 충분하다.
+        long from = Math.max(currentTick + 1, targetTick - mask);
+        int removed = 0;
+        for (long tick = from; tick <= targetTick; tick++) {
+            removed += processSlot((int) (tick & mask), nowMillis, handler);
+        }
+        currentTick = targetTick;
+        return removed;
+    }
+
+    private int processSlot(int slot, long nowMillis, ExpiryHandler handler) {
+        long[] entries = slots[slot];
+        int size = slotSizes[slot];
+        if (entries == null || size == 0) {
+            return 0;
+        }
+
+        int write = 0;
+        for (int read = 0; read < size; read += 2) {
+            long hi = entries[read];
+            long lo = entries[read + 1];
+            if (!handler.onTick(hi, lo, nowMillis)) {
+                entries[write] = hi;
+                entries[write + 1] = lo;
+                write += 2;
+            }
+        }
+        slotSizes[slot] = write;
+
+        // 대량 만료 후 남은 배열이 과하게 크면 축소
+        if (write == 0 && entries.length > INITIAL_SLOT_CAPACITY * 2) {
+            slots[slot] = null;
+        }
+        return (size - write) / 2;
+    }
+}
@@ -0,0 +1,301 @@
+package com.example.api.service;
+
+import com.example.api.converter.UuidToBytesConverter;
+import com.example.api.dto.UserResponse;
+import com.example.api.dto.UserRole;
+import com.example.api.exception.BusinessException;
+import com.example.api.exception.ErrorCode;
+import com.example.api.exception.ResponseAbortedException;
+import com.example.api.repository.UserProfileRow;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 전체 회원 내보내기 (GET /api/v1/users/export)
+ * <pre>
+ * - users + user_roles 를 id 순서로 SQL 1회 조회하고, JDBC fetch-size 만큼씩 받아 행 단위로 바로 쓴다.
+ *   (엔티티·영속성 컨텍스트 없음, 메모리는 행 수와 무관하게 fetch-size + 출력 버퍼로 일정)
+ * - 한 회원의 권한 행은 연속해서 오므로 현재 회원 1명분만 모았다가 id 가 바뀌면 출력한다.
+ * - 출력은 블로킹 쓰기이므로 클라이언트가 느리면 쓰기가 대기하고, 그동안 다음 fetch 도 멈춘다. (배압)
+ *   flush-rows 행마다 flush 해 클라이언트가 진행 중에도 데이터를 받게 한다.
+ * - 클라이언트 연결이 끊기면 쓰기 IOException 으로 조회를 중단하고 커서를 닫는다.
+ * - HTTP 응답 구성(형식·gzip 선택, 헤더, 커밋 후 실패 처리)은 exportTo 가 담당한다. (컨트롤러는 위임만)
+ * </pre>
+ * fetch-size 로 커서 조회를 하려면 DB 별 조건이 필요하다. (PostgreSQL: 트랜잭션 안, MySQL: useCursorFetch=true)
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    public static final MediaType APPLICATION_NDJSON = UserImportService.APPLICATION_NDJSON;
+    public static final MediaType TEXT_CSV = UserImportService.TEXT_CSV;
+
+    private static final String EXPORT_SQL = """
+            /* 회원 전체 내보내기 */
+            select u.id, u.public_id, u.username, u.name, u.email, u.create_date, u.version, r.role
+            from users u left join user_roles r on r.user_id = u.id
+            order by u.id
+            """;
+
+    private static final String CSV_HEADER = "id,username,name,email,roles,createDate";
+
+    /**
+     * 응답 출력 버퍼 크기 (문자 단위, gzip 압축 전)
+     */
+    private static final int RESPONSE_BUFFER_SIZE = 8192;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+    private final int flushRows;
+
+    public UserExportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${user-export.fetch-size:500}") int fetchSize,
+            @Value("${user-export.flush-rows:1000}") int flushRows
+    ) {
+        if (fetchSize <= 0 || flushRows <= 0) {
+            throw new IllegalArgumentException("user-export.fetch-size and flush-rows must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+        this.flushRows = flushRows;
+    }
+
+    /**
+     * HTTP 응답으로 내보낸다. Accept 에 text/csv 가 있으면 CSV, 아니면 NDJSON.
+     */
+    public void exportTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        MediaType format = accept != null && accept.toLowerCase(Locale.ROOT).contains(TEXT_CSV.toString())
+                ? TEXT_CSV : APPLICATION_NDJSON;
+        writeResponse(request, response, format, writer -> exportUsers(format, writer));
+    }
+
+    /**
+     * <pre>
+     * - Accept-Encoding 에 gzip 이 있으면 gzip 으로 압축한다. (syncFlush: flush-rows 마다 압축 중인 데이터도 내보냄)
+     * - 정상 완료 시에만 close 한다. (gzip trailer 기록) 중간 실패 시에는 닫지 않아 잘린 응답이 완전한 gzip 으로 보이지 않게 한다.
+     * - 응답 커밋 후 조회·직렬화 오류가 나면 오류 응답을 쓸 수 없으므로 ResponseAbortedException 으로 연결을 끊는다.
+     *   커밋 전이면 원래 예외를 그대로 던져 GlobalExceptionHandler 가 오류 응답을 쓰게 한다.
+     * </pre>
+     */
+    void writeResponse(HttpServletRequest request, HttpServletResponse response, MediaType format,
+                       Consumer<Writer> body) throws IOException {
+        boolean csv = TEXT_CSV.equals(format);
+        response.setContentType(format.toString());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(csv ? "users.csv" : "users.ndjson").build().toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = new GZIPOutputStream(out, RESPONSE_BUFFER_SIZE, true);
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), RESPONSE_BUFFER_SIZE);
+        try {
+            body.accept(writer);
+        } catch (UncheckedIOException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                throw e;
+            }
+            log.error("event=user_export_failed format={} exception={} message={}",
+                    csv ? "csv" : "ndjson", e.getClass().getSimpleName(), e.getMessage(), e);
+            throw new ResponseAbortedException(e);
+        }
+        writer.close();
+    }
+
+    /**
+     * Accept-Encoding 에 gzip(또는 *) 이 q=0 이 아닌 값으로 있으면 true
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].strip();
+            if (!coding.equals("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean disabled = parts.length > 1 && parts[1].strip().replace(" ", "").matches("q=0(\\.0*)?");
+            if (!disabled) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param format APPLICATION_NDJSON 또는 TEXT_CSV
+     * @return 내보낸 회원 수
+     * @throws BusinessException     UNSUPPORTED_MEDIA_TYPE - 지원하지 않는 형식
+     * @throws UncheckedIOException 출력 실패 (클라이언트 연결 끊김 등)
+     */
+    public long exportUsers(MediaType format, Writer out) {
+        boolean csv;
+        if (APPLICATION_NDJSON.isCompatibleWith(format)) {
+            csv = false;
+        } else if (TEXT_CSV.isCompatibleWith(format)) {
+            csv = true;
+        } else {
+            throw new BusinessException(ErrorCode.UNSUPPORTED_MEDIA_TYPE);
+        }
+
+        long startNanos = System.nanoTime();
+        ExportWriter writer = new ExportWriter(out, csv);
+        try {
+            if (csv) {
+                writer.writeLine(CSV_HEADER);
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, writer));
+            writer.finish();
+        } catch (UncheckedIOException e) {
+            log.warn("event=user_export_aborted exported={} exception={} message={}",
+                    writer.exported, e.getCause().getClass().getSimpleName(), e.getCause().getMessage());
+            throw e;
+        }
+
+        log.info("event=user_export_completed format={} exported={} elapsed_ms={}",
+                csv ? "csv" : "ndjson", writer.exported, (System.nanoTime() - startNanos) / 1_000_000);
+        return writer.exported;
+    }
+
+    /**
+     * 결과 행을 회원 단위로 모아 출력한다. (권한 수만큼 반복되는 회원 행 → 1줄)
+     */
+    private final class ExportWriter implements RowCallbackHandler {
+
+        private final Writer out;
+        private final boolean csv;
+        private UserProfileRow current;
+        private long exported;
+
+        ExportWriter(Writer out, boolean csv) {
+            this.out = out;
+            this.csv = csv;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (current == null || current.id() != id) {
+                emitCurrent();
+                Timestamp createDate = rs.getTimestamp("create_date");
+                current = new UserProfileRow(
+                        id,
+                        UuidToBytesConverter.fromBytes(rs.getBytes("public_id")),
+                        rs.getString("username"),
+                        rs.getString("name"),
+                        rs.getString("email"),
+                        createDate == null ? null : createDate.toLocalDateTime(),
+                        rs.getLong("version"),
+                        EnumSet.noneOf(UserRole.class));
+            }
+            String role = rs.getString("role");
+            if (role != null) {
+                current.roles().add(UserRole.valueOf(role));
+            }
+        }
+
+        void finish() {
+            emitCurrent();
+            flush();
+        }
+
+        private void emitCurrent() {
+            if (current == null) {
+                return;
+            }
+            UserResponse user = UserResponse.from(current);
+            writeLine(csv ? toCsv(user) : objectMapper.writeValueAsString(user));
+            current = null;
+            if (++exported % flushRows == 0) {
+                flush();
+            }
+        }
+
+        void writeLine(String line) {
+            try {
+                out.write(line);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static String toCsv(UserResponse user) {
+        return String.join(",",
+                user.id(),
+                csvField(user.username()),
+                csvField(user.name()),
+                csvField(user.email()),
+                csvField(user.roles().stream().sorted().collect(Collectors.joining(";"))),
+                user.createDate() == null ? "" : user.createDate().toString());
+    }
+
+    /**
+     * RFC 4180: 쉼표·따옴표·줄바꿈이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 쓴다.
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,440 @@
+package com.example.api.service;
+
+import com.example.api.converter.UuidToBytesConverter;
+import com.example.api.dto.UserCreateRequest;
+import com.example.api.dto.UserImportRowResult;
+import com.example.api.dto.UserImportSummary;
+import com.example.api.dto.UserRole;
+import com.example.api.entity.User;
+import com.example.api.exception.BusinessException;
+import com.example.api.exception.ErrorCode;
+import com.example.api.repository.SequenceIdAllocator;
+import com.example.api.repository.UserRepository;
+import com.example.api.security.BoundedPasswordEncoder;
+import com.github.f4b6a3.uuid.UuidCreator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 일괄 등록 (NDJSON / CSV 스트리밍 입력).
+ * <pre>
+ * - 입력을 batch-size 행 단위 청크로 읽어 처리하므로 전체 입력을 메모리에 올리지 않는다.
+ * - 청크 처리 순서
+ *   1. 파싱 + Bean Validation (UserCreateRequest 와 동일 규칙), 파일 내 중복 확인
+ *   2. 아이디·이메일 DB 중복 확인 (청크당 SQL 1회) - 해시 전에 거절
+ *   3. 비밀번호 해시를 passwordHashExecutor 에서 병렬 실행 (동시 제출 수 hash-concurrency 로 제한)
+ *   4. users / user_roles JDBC 배치 INSERT (청크당 1 트랜잭션)
+ *      동시 가입 등으로 유니크 제약조건에 걸리면 해당 청크만 행 단위로 다시 INSERT 해 실패 행을 가려낸다.
+ * - 행 결과는 청크가 끝날 때마다 입력 순서대로 sink 로 전달한다.
+ * </pre>
+ * users/user_roles 는 JdbcTemplate 으로 직접 배치 INSERT 한다. id 는 엔티티와 같은 시퀀스에서 SequenceIdAllocator 로 미리 확보하므로
+ * user_roles 도 생성 키 조회 없이 같은 청크에서 연결한다.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    public static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String INSERT_USER_SQL = """
+            insert into users (id, public_id, username, password, name, email, email_domain, create_date, modified_date)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ROLE_SQL = """
+            insert into user_roles (user_id, role)
+            values (?, ?)
+            """;
+
+    private static final List<String> CSV_COLUMNS = List.of("username", "password", "email", "name");
+
+    private static final long BUSY_BACKOFF_MILLIS = 50;
+    private static final int BUSY_MAX_RETRIES = 200;
+
+    private final UserRepository userRepository;
+    private final SequenceIdAllocator idAllocator;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final int hashConcurrency;
+
+    public UserImportService(
+            UserRepository userRepository,
+            SequenceIdAllocator idAllocator,
+            BoundedPasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${user-import.batch-size:500}") int batchSize,
+            @Value("${user-import.hash-concurrency:0}") int hashConcurrency
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("user-import.batch-size must be positive");
+        }
+        this.userRepository = userRepository;
+        this.idAllocator = idAllocator;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        // 기본값: 코어 수의 절반. 일괄 등록이 해시 풀을 독점해 로그인이 SERVICE_BUSY 로 밀려나지 않게 한다.
+        this.hashConcurrency = hashConcurrency > 0
+                ? hashConcurrency
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    /**
+     * @param body        요청 본문 (UTF-8)
+     * @param contentType application/x-ndjson 또는 text/csv
+     * @param sink        행 결과 수신자 (청크 단위로 입력 순서대로 호출)
+     * @throws BusinessException INVALID_INPUT_VALUE - CSV 헤더 누락/불일치
+     */
+    public UserImportSummary importUsers(InputStream body, MediaType contentType, Consumer<UserImportRowResult> sink) throws IOException {
+        long startNanos = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        RowParser parser = TEXT_CSV.isCompatibleWith(contentType) ? csvParser(reader.readLine()) : this::parseJson;
+
+        ImportState state = new ImportState();
+        long lineNumber = TEXT_CSV.isCompatibleWith(contentType) ? 1 : 0;
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(parser.parse(lineNumber, line));
+            if (chunk.size() >= batchSize) {
+                processChunk(chunk, state, sink);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            processChunk(chunk, state, sink);
+        }
+
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+        UserImportSummary summary = UserImportSummary.of(state.total, state.created, elapsedMillis);
+        log.info("event=user_import_completed total={} created={} failed={} elapsed_ms={} rows_per_sec={}",
+                summary.total(), summary.created(), summary.failed(), summary.elapsedMillis(), summary.rowsPerSecond());
+        return summary;
+    }
+
+    private void processChunk(List<ImportRow> chunk, ImportState state, Consumer<UserImportRowResult> sink) {
+        UserImportRowResult[] results = new UserImportRowResult[chunk.size()];
+        List<Integer> candidates = new ArrayList<>(chunk.size());
+
+        // 1. 검증 + 파일 내 중복
+        for (int i = 0; i < chunk.size(); i++) {
+            ImportRow row = chunk.get(i);
+            UserImportRowResult rejected = row.rejected() != null ? row.rejected() : validate(row);
+            if (rejected == null) {
+                rejected = state.claim(row);
+            }
+            if (rejected != null) {
+                results[i] = rejected;
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // 2. DB 중복 (청크당 1회)
+        if (!candidates.isEmpty()) {
+            Set<String> usernames = candidates.stream().map(i -> chunk.get(i).request().username()).collect(Collectors.toSet());
+            Set<String> emails = candidates.stream().map(i -> chunk.get(i).request().email()).collect(Collectors.toSet());
+            Set<String> takenUsernames = new HashSet<>();
+            Set<String> takenEmails = new HashSet<>();
+            for (UserRepository.UniqueKeys keys : userRepository.findUniqueKeysIn(usernames, emails)) {
+                takenUsernames.add(keys.getUsername());
+                takenEmails.add(keys.getEmail());
+            }
+            candidates.removeIf(i -> {
+                UserCreateRequest request = chunk.get(i).request();
+                ErrorCode duplicate = takenUsernames.contains(request.username()) ? ErrorCode.DUPLICATE_USERNAME
+                        : takenEmails.contains(request.email()) ? ErrorCode.DUPLICATE_EMAIL
+                        : null;
+                if (duplicate != null) {
+                    results[i] = UserImportRowResult.failed(chunk.get(i).line(), request.username(), duplicate);
+                }
+                return duplicate != null;
+            });
+        }
+
+        // 3. 병렬 해시 + id 확보 (시퀀스 호출 ID_ALLOCATION_SIZE 건당 1회)
+        List<NewUser> newUsers = new ArrayList<>(candidates.size());
+        List<String> hashes = hashAll(candidates.stream().map(i -> chunk.get(i).request().password()).toList());
+        Iterator<Long> ids = idAllocator.allocate(User.ID_SEQUENCE, User.ID_ALLOCATION_SIZE, candidates.size()).iterator();
+        for (int k = 0; k < candidates.size(); k++) {
+            int i = candidates.get(k);
+            ImportRow row = chunk.get(i);
+            if (hashes.get(k) == null) {
+                results[i] = UserImportRowResult.failed(row.line(), row.request().username(), ErrorCode.INTERNAL_SERVER_ERROR);
+            } else {
+                newUsers.add(new NewUser(i, row, hashes.get(k), ids.next(), UuidCreator.getTimeOrderedEpoch()));
+            }
+        }
+
+        // 4. 배치 INSERT
+        insert(newUsers, results);
+
+        for (UserImportRowResult result : results) {
+            state.total++;
+            if (result.status() == UserImportRowResult.Status.CREATED) {
+                state.created++;
+            }
+            sink.accept(result);
+        }
+    }
+
+    private UserImportRowResult validate(ImportRow row) {
+        Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(row.request());
+        if (violations.isEmpty()) {
+            return null;
+        }
+        String message = violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        return UserImportRowResult.failed(row.line(), row.request().username(), ErrorCode.INVALID_INPUT_VALUE, message);
+    }
+
+    /**
+     * 해시 풀에 최대 hashConcurrency 개씩 제출한다.
+     * 로그인 등 다른 요청으로 풀 큐가 가득 차 있으면(SERVICE_BUSY) 잠시 후 다시 제출한다.
+     *
+     * @return 입력 순서대로의 해시 (실패한 행은 null)
+     */
+    private List<String> hashAll(List<String> passwords) {
+        Semaphore permits = new Semaphore(hashConcurrency);
+        List<CompletableFuture<String>> futures = new ArrayList<>(passwords.size());
+        for (String password : passwords) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<String> future;
+            try {
+                future = encodeWithRetry(password);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((hash, failure) -> permits.release());
+            futures.add(future.exceptionally(failure -> {
+                log.warn("event=user_import_hash_failed exception={} message={}",
+                        failure.getClass().getSimpleName(), failure.getMessage());
+                return null;
+            }));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private CompletableFuture<String> encodeWithRetry(String password) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return passwordEncoder.encodeAsync(password);
+            } catch (BusinessException e) {
+                if (e.getErrorCode() != ErrorCode.SERVICE_BUSY || attempt >= BUSY_MAX_RETRIES) {
+                    throw e;
+                }
+                sleepQuietly(BUSY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * 청크 전체를 1 트랜잭션으로 배치 INSERT 한다.
+     * 유니크 제약조건 위반이면 롤백 후 행 단위 트랜잭션으로 다시 INSERT 해 실패 행만 가려낸다.
+     */
+    private void insert(List<NewUser> newUsers, UserImportRowResult[] results) {
+        if (newUsers.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(newUsers));
+            newUsers.forEach(u -> results[u.index()] = UserImportRowResult.created(u.row().line(), u.row().request().username()));
+        } catch (DataIntegrityViolationException e) {
+            log.info("event=user_import_batch_conflict size={} fallback=row_by_row", newUsers.size());
+            for (NewUser newUser : newUsers) {
+                results[newUser.index()] = insertOne(newUser);
+            }
+        }
+    }
+
+    private UserImportRowResult insertOne(NewUser newUser) {
+        long line = newUser.row().line();
+        String username = newUser.row().request().username();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(List.of(newUser)));
+            return UserImportRowResult.created(line, username);
+        } catch (DataIntegrityViolationException e) {
+            ErrorCode duplicate = UserService.duplicateOf(e);
+            return UserImportRowResult.failed(line, username, duplicate != null ? duplicate : ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private void insertBatch(List<NewUser> newUsers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, newUsers, newUsers.size(), (ps, u) -> {
+            UserCreateRequest request = u.row().request();
+            ps.setLong(1, u.id());
+            ps.setBytes(2, UuidToBytesConverter.toBytes(u.publicId()));
+            ps.setString(3, request.username());
+            ps.setString(4, u.passwordHash());
+            ps.setString(5, request.name());
+            ps.setString(6, request.email());
+            ps.setString(7, User.emailDomainOf(request.email()));
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+        jdbcTemplate.batchUpdate(INSERT_ROLE_SQL, newUsers, newUsers.size(), (ps, u) -> {
+            ps.setLong(1, u.id());
+            ps.setString(2, UserRole.USER.name());
+        });
+    }
+
+    /**
+     * 한 줄 = JSON 객체 1개. null·배열·숫자 등 객체가 아닌 값도 잘못된 행으로 처리한다.
+     */
+    private ImportRow parseJson(long line, String text) {
+        try {
+            JsonNode node = objectMapper.readTree(text);
+            if (node == null || !node.isObject()) {
+                return ImportRow.invalid(line, "JSON 객체가 아닙니다.");
+            }
+            return ImportRow.of(line, objectMapper.treeToValue(node, UserCreateRequest.class));
+        } catch (JacksonException e) {
+            return ImportRow.invalid(line, "JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * 헤더 행으로 컬럼 순서를 정한 CSV 파서를 만든다. (RFC 4180 따옴표 지원, 필드 내 줄바꿈 미지원)
+     */
+    private RowParser csvParser(String header) {
+        if (header == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 헤더가 없습니다.");
+        }
+        List<String> columns = splitCsv(header.startsWith("\uFEFF") ? header.substring(1) : header).stream()
+                .map(c -> c.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        int[] index = CSV_COLUMNS.stream().mapToInt(columns::indexOf).toArray();
+        if (Arrays.stream(index).anyMatch(i -> i < 0)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "CSV 헤더에 " + CSV_COLUMNS + " 컬럼이 필요합니다.");
+        }
+
+        return (line, text) -> {
+            List<String> fields = splitCsv(text);
+            if (fields.size() != columns.size()) {
+                return ImportRow.invalid(line, "컬럼 수가 헤더와 다릅니다.");
+            }
+            return ImportRow.of(line, new UserCreateRequest(
+                    fields.get(index[0]), fields.get(index[1]), fields.get(index[2]), fields.get(index[3])));
+        };
+    }
+
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_BUSY);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        ImportRow parse(long line, String text);
+    }
+
+    private record ImportRow(long line, UserCreateRequest request, UserImportRowResult rejected) {
+        static ImportRow of(long line, UserCreateRequest request) {
+            return new ImportRow(line, request, null);
+        }
+
+        static ImportRow invalid(long line, String message) {
+            return new ImportRow(line, null, UserImportRowResult.failed(line, null, ErrorCode.INVALID_INPUT_VALUE, message));
+        }
+    }
+
+    private record NewUser(int index, ImportRow row, String passwordHash, long id, UUID publicId) {
+    }
+
+    /**
+     * 요청 1건 동안의 누적 상태. 파일 내 아이디·이메일 중복은 청크를 넘어 확인한다.
+     */
+    private static final class ImportState {
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> emails = new HashSet<>();
+        private long total;
+        private long created;
+
+        UserImportRowResult claim(ImportRow row) {
+            UserCreateRequest request = row.request();
+            if (!usernames.add(request.username())) {
+                return UserImportRowResult.failed(row.line(), request.username(), ErrorCode.DUPLICATE_USERNAME);
+            }
+            if (!emails.add(request.email())) {
+                usernames.remove(request.username());
+                return UserImportRowResult.failed(row.line(), request.username(), ErrorCode.DUPLICATE_EMAIL);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.api.service;
+
+import com.example.api.dto.UserResponse;
+import com.example.api.security.session.SessionEvent;
+import com.example.api.security.session.SessionEventListener;
+import com.example.api.util.BoundedTtlCache;
+import com.example.api.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * publicId → 회원 프로필 응답(UserResponse) 2단계 캐시. (GET /api/v1/users/me)
+ * <pre>
+ * 조회 순서: L1(노드 로컬 BoundedTtlCache) → L2(Redis, 바이너리 직렬화) → DB
+ * - 같은 키의 L1 미스는 한 요청만 L2/DB 를 읽고 나머지는 그 결과를 기다린다. (요청 병합, 캐시 만료 직후 DB 몰림 방지)
+ * - 프로필 수정 시 invalidate 로 L1 + L2 를 즉시 제거하고, 트랜잭션 안이면 커밋 후 한 번 더 제거한다.
+ * - 적재 중 같은 키가 무효화되면 그 적재 결과는 캐시에 넣지 않는다. (키별 판정, 이전 값 재저장 방지)
+ *   L1 저장은 무효화 표시와 같은 inFlight 키 잠금 안에서 하고, L2 는 저장 후 다시 확인해 무효화됐으면 지운다.
+ *   남는 창: 다른 노드의 적재가 이 노드의 무효화 이후 L2 에 이전 값을 저장할 수 있다.
+ *   그 노드가 PROFILE_CHANGED 를 받으면 L2 도 지우므로 정리되고, 이벤트가 유실되면 L2 TTL 로 수렴한다.
+ * - 다른 노드의 L1 은 PROFILE_CHANGED 세션 이벤트로 제거한다. (이벤트 유실 시 L1 TTL 로 수렴)
+ *   비밀번호 재해시도 수정 버전을 올리므로 PASSWORD_REHASHED 에서도 제거한다.
+ * - Redis 장애 시 L2 를 건너뛰고 DB 에서 읽는다. (응답 실패로 전파하지 않음)
+ * - 메트릭: cache.* tag cache=user_profile (L1), cache.gets tag cache=user_profile_l2 (L2 hit/miss),
+ *   cache.load tag cache=user_profile (DB 적재 시간), cache.coalesced (병합된 요청 수), cache.errors (L2 오류)
+ * </pre>
+ */
+@Slf4j
+@Component
+public class UserProfileCache implements SessionEventListener {
+
+    private static final String L1_NAME = "user_profile";
+    private static final String L2_NAME = "user_profile_l2";
+    private static final String KEY_PREFIX = "user_profile:";
+
+    /**
+     * 직렬화 형식 버전. 필드 구성이 바뀌면 올린다. (다른 버전 값은 L2 미스로 처리)
+     */
+    private static final byte FORMAT_VERSION = 2;
+    private static final long NULL_EPOCH_SECOND = Long.MIN_VALUE;
+
+    private final boolean enabled;
+    private final BoundedTtlCache<UUID, UserResponse> l1;
+    private final RedisTemplate<String, byte[]> l2;
+    private final Duration l2Ttl;
+    private final ConcurrentHashMap<UUID, Load> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Counter l2Errors;
+    private final Counter coalesced;
+    private final Timer loadTimer;
+
+    public UserProfileCache(
+            @Value("${user-profile-cache.enabled:true}") boolean enabled,
+            @Value("${user-profile-cache.l1.max-size:10000}") int maxSize,
+            @Value("${user-profile-cache.l1.ttl-seconds:60}") long l1TtlSeconds,
+            @Value("${user-profile-cache.l2.store:redis}") String l2Store,
+            @Value("${user-profile-cache.l2.ttl-seconds:600}") long l2TtlSeconds,
+            RedisConnectionFactory connectionFactory,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.l1 = new BoundedTtlCache<UUID, UserResponse>(L1_NAME, maxSize, Duration.ofSeconds(l1TtlSeconds))
+                .bindTo(meterRegistry);
+        this.l2 = "redis".equals(l2Store) ? binaryTemplate(connectionFactory) : null;
+        this.l2Ttl = Duration.ofSeconds(l2TtlSeconds);
+
+        this.l2Hits = Counter.builder("cache.gets").tag("cache", L2_NAME).tag("result", "hit").register(meterRegistry);
+        this.l2Misses = Counter.builder("cache.gets").tag("cache", L2_NAME).tag("result", "miss").register(meterRegistry);
+        this.l2Errors = Counter.builder("cache.errors").tag("cache", L2_NAME).register(meterRegistry);
+        this.coalesced = Counter.builder("cache.coalesced").tag("cache", L1_NAME).register(meterRegistry);
+        this.loadTimer = Timer.builder("cache.load").tag("cache", L1_NAME).register(meterRegistry);
+    }
+
+    /**
+     * @param loader DB 조회. 회원이 없으면 null
+     * @return 캐시 또는 loader 결과, 회원이 없으면 null (없는 회원은 캐시하지 않음)
+     */
+    public UserResponse get(UUID publicId, Function<UUID, UserResponse> loader) {
+        if (!enabled) {
+            return loader.apply(publicId);
+        }
+        UserResponse cached = l1.get(publicId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Load loading = new Load();
+        Load existing = inFlight.putIfAbsent(publicId, loading);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing.future);
+        }
+
+        try {
+            UserResponse value = load(publicId, loading, loader);
+            loading.future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loading.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(publicId, loading);
+        }
+    }
+
+    public void invalidate(UUID publicId) {
+        TransactionCallbacks.nowAndAfterCommit(() -> evict(publicId));
+    }
+
+    /**
+     * 프로필 변경·비밀번호 재해시(수정 버전 증가) 이벤트를 받으면 L1 + L2 를 제거한다.
+     * (발행 노드가 이미 지웠어도 L2 DEL 은 멱등이며, 이벤트 전달 전에 다른 노드가 다시 저장한 이전 값도 함께 정리된다)
+     */
+    @Override
+    public void onSessionEvent(SessionEvent event) {
+        if (event.type() == SessionEvent.Type.PROFILE_CHANGED || event.type() == SessionEvent.Type.PASSWORD_REHASHED) {
+            evict(event.publicId());
+        }
+    }
+
+    private UserResponse load(UUID publicId, Load loading, Function<UUID, UserResponse> loader) {
+        UserResponse value = readL2(publicId);
+        if (value == null) {
+            value = loadTimer.record(() -> loader.apply(publicId));
+            if (value != null && !loading.invalidated) {
+                writeL2(publicId, value);
+                // 저장 직후 무효화됐다면 evict 의 DEL 이 저장보다 먼저 실행됐을 수 있으므로 다시 지운다.
+                if (loading.invalidated) {
+                    deleteL2(publicId);
+                }
+            }
+        }
+        if (value != null) {
+            UserResponse loaded = value;
+            inFlight.computeIfPresent(publicId, (id, current) -> {
+                if (current == loading && !current.invalidated) {
+                    l1.put(id, loaded);
+                }
+                return current;
+            });
+        }
+        return value;
+    }
+
+    /**
+     * 진행 중인 적재에 무효화를 표시한 뒤 L1 + L2 를 제거한다.
+     * (표시와 적재의 L1 저장은 같은 키 잠금 안에서 일어나므로, 표시 이전에 저장된 값은 이어지는 L1 제거로 지워진다)
+     */
+    private void evict(UUID publicId) {
+        inFlight.computeIfPresent(publicId, (id, load) -> {
+            load.invalidated = true;
+            return load;
+        });
+        l1.invalidate(publicId);
+        deleteL2(publicId);
+    }
+
+    private void deleteL2(UUID publicId) {
+        if (l2 == null) {
+            return;
+        }
+        try {
+            l2.unlink(KEY_PREFIX + publicId);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.warn("event=user_profile_cache_evict_failed public_id={} exception={} message={}",
+                    publicId, e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    private UserResponse readL2(UUID publicId) {
+        if (l2 == null) {
+            return null;
+        }
+        try {
+            UserResponse value = decode(l2.opsForValue().get(KEY_PREFIX + publicId));
+            (value != null ? l2Hits : l2Misses).increment();
+            return value;
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.debug("event=user_profile_cache_read_failed public_id={} exception={}", publicId, e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    private void writeL2(UUID publicId, UserResponse value) {
+        if (l2 == null) {
+            return;
+        }
+        try {
+            l2.opsForValue().set(KEY_PREFIX + publicId, encode(value), l2Ttl);
+        } catch (RuntimeException e) {
+            l2Errors.increment();
+            log.debug("event=user_profile_cache_write_failed public_id={} exception={}", publicId, e.getClass().getSimpleName());
+        }
+    }
+
+    private static UserResponse await(CompletableFuture<UserResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * <pre>
+     * byte    형식 버전
+     * long×2  publicId (상위·하위 64비트)
+     * UTF×3   username, name, email (DataOutput 2바이트 길이 + modified UTF-8)
+     * byte    권한 수, UTF × 권한 수
+     * long    생성 일시 epoch second (UTC 기준 LocalDateTime, 없으면 Long.MIN_VALUE), int nano
+     * long    수정 버전
+     * </pre>
+     */
+    static byte[] encode(UserResponse value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            UUID publicId = UUID.fromString(value.id());
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(publicId.getMostSignificantBits());
+            out.writeLong(publicId.getLeastSignificantBits());
+            out.writeUTF(value.username());
+            out.writeUTF(value.name());
+            out.writeUTF(value.email());
+            out.writeByte(value.roles().size());
+            for (String role : value.roles()) {
+                out.writeUTF(role);
+            }
+            LocalDateTime createDate = value.createDate();
+            out.writeLong(createDate == null ? NULL_EPOCH_SECOND : createDate.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(createDate == null ? 0 : createDate.getNano());
+            out.writeLong(value.version());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @return 값, 없거나 형식 버전이 다르거나 손상됐으면 null
+     */
+    static UserResponse decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != FORMAT_VERSION) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            UUID publicId = new UUID(in.readLong(), in.readLong());
+            String username = in.readUTF();
+            String name = in.readUTF();
+            String email = in.readUTF();
+            int roleCount = in.readUnsignedByte();
+            Set<String> roles = new HashSet<>(roleCount * 2);
+            for (int i = 0; i < roleCount; i++) {
+                roles.add(in.readUTF());
+            }
+            long epochSecond = in.readLong();
+            int nano = in.readInt();
+            long version = in.readLong();
+            return UserResponse.builder()
+                    .id(publicId.toString())
+                    .username(username)
+                    .name(name)
+                    .email(email)
+                    .roles(roles)
+                    .createDate(epochSecond == NULL_EPOCH_SECOND
+                            ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC))
+                    .version(version)
+                    .build();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static RedisTemplate<String, byte[]> binaryTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    /**
+     * 진행 중인 적재. invalidated 는 적재 도중 같은 키가 무효화됐는지 표시한다.
+     */
+    private static final class Load {
+        final CompletableFuture<UserResponse> future = new CompletableFuture<>();
+        volatile boolean invalidated;
+    }
+}
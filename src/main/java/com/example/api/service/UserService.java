@@ -4,13 +4,31 @@ import com.example.api.dto.*;
 import com.example.api.entity.User;
 import com.example.api.exception.BusinessException;
 import com.example.api.exception.ErrorCode;
+import com.example.api.repository.UserProfileRow;
 import com.example.api.repository.UserRepository;
+import com.example.api.repository.UserSearchCondition;
+import com.example.api.security.PrincipalCache;
+import com.example.api.security.session.SessionEvent;
+import com.example.api.security.session.SessionEventBus;
 import com.example.api.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 @Service
@@ -18,21 +36,36 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class UserService {
 
+    /**
+     * 회원 수 캐시 키 접두사 (뒤에 필터 조건 서명)
+     */
+    private static final String USER_COUNT_SIGNATURE_PREFIX = "users:";
+
+    /**
+     * CREATE_DATE 커서 키 구분자 ({createDate},{id})
+     */
+    private static final char CURSOR_KEY_SEPARATOR = ',';
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final PageCountCache pageCountCache;
+    private final UserProfileCache userProfileCache;
+    private final SessionEventBus sessionEventBus;
 
     /**
      * 회원 가입
+     * <pre>
+     * 1. 아이디·이메일 중복을 SQL 1회로 확인한다. (해시 전에 거절해 중복 요청에 해시 비용을 쓰지 않음)
+     * 2. 비밀번호 해시 (트랜잭션 밖에서 실행해 해시 동안 DB 커넥션을 점유하지 않음)
+     * 3. INSERT - 확인 이후 동시 가입으로 유니크 제약조건에 걸리면 DUPLICATE_USERNAME / DUPLICATE_EMAIL 로 변환한다.
+     * </pre>
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signUp(UserCreateRequest request) {
-
-        if (userRepository.existsByUsername(request.username())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_USERNAME);
-        }
-
-        if (userRepository.existsByEmail(request.email())) {
-            throw new BusinessException(ErrorCode.DUPLICATE_EMAIL);
+        ErrorCode duplicate = findDuplicate(request.username(), request.email());
+        if (duplicate != null) {
+            throw new BusinessException(duplicate);
         }
 
         String encodePassword = passwordEncoder.encode(request.password());
@@ -43,24 +76,73 @@ public class UserService {
                 request.name(),
                 request.email()
         );
-        userRepository.save(user);
+
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessException(resolveDuplicate(e, request.username(), request.email()));
+        }
     }
 
     /**
-     * 프로필 조회
+     * 프로필 조회. UserProfileCache(L1 → L2 → DB) 를 거친다.
+     * 트랜잭션 없이 실행해 캐시 적중 시 DB 커넥션을 잡지 않는다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse readMyProfile(UUID publicId) {
-        return userRepository.findWithRolesByPublicId(publicId)
+        // 엔티티 대신 프로젝션으로 조회 (영속성 컨텍스트 등록·dirty checking 스냅샷 없음)
+        UserResponse response = userProfileCache.get(publicId, id -> userRepository.findProfileByPublicId(id)
                 .map(UserResponse::from)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+                .orElse(null));
+        if (response == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return response;
     }
 
     /**
      * 프로필 수정
+     * <pre>
+     * - version 을 보내면: UPDATE ... WHERE public_id = ? AND version = ? 1회 후 프로필 조회 1회 (엔티티·권한 로딩 없음)
+     *   0행이면 회원 유무로 USER_NOT_FOUND / USER_VERSION_CONFLICT 를 구분한다.
+     * - version 이 없으면: 엔티티 조회 후 변경된 컬럼만 UPDATE (@DynamicUpdate)
+     *   조회와 커밋 사이에 다른 수정이 커밋되면 @Version 검사로 USER_VERSION_CONFLICT
+     * - 이메일 중복은 유니크 제약조건 위반을 DUPLICATE_EMAIL 로 변환한다. (버전 경로는 사전 조회 없음)
+     * </pre>
      */
     @Transactional
     public UserResponse updateMyProfile(UserUpdateRequest request) {
-        User user = userRepository.findWithRolesByPublicId(SecurityUtils.getUserPublicId())
+        UUID publicId = SecurityUtils.getUserPublicId();
+        UserResponse response = request.version() != null
+                ? updateProfileIfVersionMatches(publicId, request)
+                : updateProfileWithEntity(publicId, request);
+
+        principalCache.invalidate(response.username());
+        userProfileCache.invalidate(publicId);
+        sessionEventBus.publish(SessionEvent.Type.PROFILE_CHANGED, publicId);
+        return response;
+    }
+
+    private UserResponse updateProfileIfVersionMatches(UUID publicId, UserUpdateRequest request) {
+        int updated;
+        try {
+            updated = userRepository.updateProfileIfVersionMatches(publicId, request.version(),
+                    request.name(), request.email(), User.emailDomainOf(request.email()), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateEmail(e);
+        }
+        if (updated == 0) {
+            throw new BusinessException(userRepository.findIdByPublicId(publicId).isPresent()
+                    ? ErrorCode.USER_VERSION_CONFLICT
+                    : ErrorCode.USER_NOT_FOUND);
+        }
+        return userRepository.findProfileByPublicId(publicId)
+                .map(UserResponse::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private UserResponse updateProfileWithEntity(UUID publicId, UserUpdateRequest request) {
+        User user = userRepository.findWithRolesByPublicId(publicId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         if (!user.getEmail().equals(request.email()) &&
@@ -69,13 +151,161 @@ public class UserService {
         }
 
         user.update(request.name(), request.email());
+        // 커밋 전에 flush 해 버전 충돌·중복을 이 메서드에서 응답 코드로 변환한다. (응답의 version 도 증가된 값)
+        try {
+            userRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new BusinessException(ErrorCode.USER_VERSION_CONFLICT);
+        } catch (DataIntegrityViolationException e) {
+            throw toDuplicateEmail(e);
+        }
         return UserResponse.from(user);
     }
 
+    /**
+     * 프로필 수정 중 유니크 제약조건 위반 → DUPLICATE_EMAIL (아이디는 수정 대상이 아니므로 이메일만 해당)
+     */
+    private static RuntimeException toDuplicateEmail(DataIntegrityViolationException e) {
+        return duplicateOf(e) == ErrorCode.DUPLICATE_EMAIL ? new BusinessException(ErrorCode.DUPLICATE_EMAIL) : e;
+    }
+
+    /**
+     * @return 중복된 항목의 에러 코드, 중복이 없으면 null (아이디 중복을 우선)
+     */
+    private ErrorCode findDuplicate(String username, String email) {
+        ErrorCode duplicate = null;
+        for (UserRepository.UniqueKeys keys : userRepository.findUniqueKeys(username, email)) {
+            if (username.equals(keys.getUsername())) {
+                return ErrorCode.DUPLICATE_USERNAME;
+            }
+            if (email.equals(keys.getEmail())) {
+                duplicate = ErrorCode.DUPLICATE_EMAIL;
+            }
+        }
+        return duplicate;
+    }
+
+    /**
+     * 유니크 제약조건 위반을 에러 코드로 변환한다.
+     * 제약조건 이름으로 판별하고, DB 드라이버가 이름을 주지 않으면 중복 확인 쿼리를 다시 실행한다.
+     */
+    private ErrorCode resolveDuplicate(DataIntegrityViolationException e, String username, String email) {
+        ErrorCode duplicate = duplicateOf(e);
+        if (duplicate != null) {
+            return duplicate;
+        }
+
+        duplicate = findDuplicate(username, email);
+        if (duplicate == null) {
+            throw e;
+        }
+        return duplicate;
+    }
+
+    /**
+     * users 유니크 제약조건 이름으로 중복 항목을 판별한다. (판별 불가 시 null)
+     */
+    static ErrorCode duplicateOf(DataIntegrityViolationException e) {
+        // JPA 경로는 Hibernate 가 추출한 제약조건 이름, JDBC 경로(JdbcTemplate)는 드라이버 메시지에서 찾는다.
+        String source = e.getCause() instanceof ConstraintViolationException cve && cve.getConstraintName() != null
+                ? cve.getConstraintName()
+                : String.valueOf(e.getMostSpecificCause().getMessage());
+        String constraintName = source.toLowerCase(Locale.ROOT);
+        if (constraintName.contains(User.UK_USERNAME)) {
+            return ErrorCode.DUPLICATE_USERNAME;
+        }
+        if (constraintName.contains(User.UK_EMAIL)) {
+            return ErrorCode.DUPLICATE_EMAIL;
+        }
+        return null;
+    }
+
     /**
      * 사용자 목록 조회
      */
     public PageResponse<UserResponse> readUsers(UserPageParam pageParam) {
-        return PageResponse.from(userRepository.findAll(pageParam.toPageable()).map(UserResponse::from));
+        UserSearchCondition condition = pageParam.toCondition();
+        if (pageParam.isCursorMode()) {
+            return readUsersByCursor(condition, pageParam.toCursor(), pageParam.getSize());
+        }
+
+        // 목록은 size + 1 행으로 다음 페이지 여부만 확인하고, 전체 개수는 요청 시에만 캐시를 거쳐 구한다.
+        Pageable pageable = pageParam.toPageable();
+        Slice<UserResponse> slice = userRepository.findSlice(condition, pageable).map(UserResponse::from);
+        if (!pageParam.isWithTotal()) {
+            return PageResponse.from(slice);
+        }
+
+        long total = slice.isFirst() && !slice.hasNext()
+                ? slice.getNumberOfElements()   // 한 페이지에 모두 들어오면 COUNT 불필요
+                : pageCountCache.count(USER_COUNT_SIGNATURE_PREFIX + condition.signature(),
+                        () -> userRepository.countUsers(condition));
+        return PageResponse.from(new PageImpl<>(slice.getContent(), pageable, total));
+    }
+
+    /**
+     * 커서(keyset) 페이지네이션. 페이지 깊이와 무관하게 인덱스 seek 1회 + size+1 행만 읽는다. (COUNT 없음)
+     * <pre>
+     * - 정방향: key 다음 size+1 행 조회, size 초과분이 있으면 다음 페이지 존재
+     * - 역방향: 정렬을 뒤집어 key 이전 size+1 행 조회 후 결과를 다시 뒤집는다
+     * - key: ID 정렬이면 {id}, CREATE_DATE 정렬이면 {createDate},{id} (같은 가입일은 id 로 순서 고정)
+     * </pre>
+     */
+    private PageResponse<UserResponse> readUsersByCursor(UserSearchCondition condition, PageCursor cursor, int size) {
+        UserPageParam.SortField sort = UserPageParam.SortField.valueOf(cursor.sort());
+        Object afterValue = null;
+        Long afterId = null;
+        if (!cursor.isFirst()) {
+            if (sort == UserPageParam.SortField.ID) {
+                afterId = parseId(cursor.key());
+            } else {
+                int separator = cursor.key().lastIndexOf(CURSOR_KEY_SEPARATOR);
+                afterValue = parseDateTime(separator < 0 ? "" : cursor.key().substring(0, separator));
+                afterId = parseId(cursor.key().substring(separator + 1));
+            }
+        }
+        List<UserProfileRow> rows = new ArrayList<>(userRepository.findByKeyset(
+                condition, sort.property(), afterValue, afterId, cursor.ascendingScan(), size + 1));
+
+        boolean more = rows.size() > size;
+        if (more) {
+            rows.removeLast();
+        }
+        if (cursor.backward()) {
+            Collections.reverse(rows);
+        }
+        if (rows.isEmpty()) {
+            return PageResponse.ofCursor(List.of(), size, null, null);
+        }
+
+        String firstKey = cursorKey(sort, rows.getFirst());
+        String lastKey = cursorKey(sort, rows.getLast());
+        PageCursor next = cursor.backward() || more ? cursor.after(lastKey) : null;
+        PageCursor prev = cursor.backward() ? (more ? cursor.before(firstKey) : null)
+                : (cursor.isFirst() ? null : cursor.before(firstKey));
+
+        return PageResponse.ofCursor(rows.stream().map(UserResponse::from).toList(), size, next, prev);
+    }
+
+    private static String cursorKey(UserPageParam.SortField sort, UserProfileRow row) {
+        return sort == UserPageParam.SortField.ID
+                ? String.valueOf(row.id())
+                : row.createDate() + String.valueOf(CURSOR_KEY_SEPARATOR) + row.id();
+    }
+
+    private static Long parseId(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String key) {
+        try {
+            return LocalDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
     }
 }
@@ -0,0 +1,170 @@
+package com.example.api.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기와 TTL 이 있는 단순 로컬 캐시 (LRU 제거).
+ * <pre>
+ * - 엔트리는 put 시점부터 ttl 이 지나면 만료된다. (조회 시 만료 확인 후 제거)
+ * - maxSize 를 넘으면 가장 오래 사용되지 않은 엔트리부터 제거한다.
+ * - 값은 불변 객체(스냅샷)를 넣는 것을 전제로 한다. (관리 중인 JPA 엔티티 금지)
+ * - bindTo 로 Micrometer 표준 캐시 메트릭(cache.gets/cache.puts/cache.evictions/cache.size, tag cache={name})을 등록한다.
+ * </pre>
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedTtlCache(String name, int maxSize, Duration ttl) {
+        if (maxSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("maxSize and ttl must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @return 캐시 값, 없거나 만료됐으면 null
+     */
+    public V get(K key) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.isExpired(now)) {
+                entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            entries.put(key, new Entry<>(value, now + ttlNanos));
+            puts.increment();
+            if (entries.size() > maxSize) {
+                evictEldest();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 읽어 저장한다. loader 가 null 을 반환하면 저장하지 않는다.
+     * loader 는 잠금 밖에서 실행되므로 같은 키를 동시에 읽을 수 있다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 값을 가진 엔트리를 모두 제거한다. (키 이외의 식별자로 무효화할 때 사용, O(n))
+     */
+    public void invalidateIf(Predicate<? super V> predicate) {
+        lock.lock();
+        try {
+            entries.values().removeIf(entry -> predicate.test(entry.value()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public BoundedTtlCache<K, V> bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit").register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss").register(registry);
+        FunctionCounter.builder("cache.puts", puts, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", name).register(registry);
+        Gauge.builder("cache.size", this, BoundedTtlCache::size)
+                .tag("cache", name).register(registry);
+        return this;
+    }
+
+    /** lock 보유 상태에서 호출. 접근 순서상 가장 오래된 엔트리부터 제거 (만료 엔트리는 대부분 앞쪽에 모여 있다) */
+    private void evictEldest() {
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.api.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 시점에 맞춘 후처리 (세션 이벤트 발행, 캐시 무효화)
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {}
+
+    /**
+     * 트랜잭션 안이면 커밋 후, 아니면 즉시 실행한다. (롤백 시 실행하지 않음)
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 즉시 실행하고, 트랜잭션 안이면 커밋 후 한 번 더 실행한다. (캐시 무효화용)
+     * 커밋 전에 다른 요청이 이전 값을 다시 캐시해도 커밋 후 실행에서 제거된다.
+     */
+    public static void nowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCommit(action);
+        }
+    }
+}
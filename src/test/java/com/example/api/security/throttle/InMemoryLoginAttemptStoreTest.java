@@ -0,0 +1,55 @@
+package com.example.api.security.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * stripe 가 가득 찼을 때 잠긴 키를 밀어내지 않는지 검증 (stripe 1개, 잠금 기준 5회)
+ */
+class InMemoryLoginAttemptStoreTest {
+
+    private static final int LOCKED = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private InMemoryLoginAttemptStore store(int maxEntries) {
+        return new InMemoryLoginAttemptStore(300, 1, maxEntries, LOCKED, 20, meterRegistry);
+    }
+
+    @Test
+    void stripe_가_가득_차면_잠기지_않은_키부터_제거() {
+        InMemoryLoginAttemptStore store = store(2);
+        fail(store, "u:locked", LOCKED);
+        fail(store, "u:other", 1);
+
+        fail(store, "u:new", 1);
+
+        assertThat(store.failures("u:locked")).isEqualTo(LOCKED);
+        assertThat(store.failures("u:other")).isZero();
+        assertThat(store.failures("u:new")).isEqualTo(1);
+    }
+
+    @Test
+    void 살펴본_키가_모두_잠겨_있으면_새_키를_저장하지_않음() {
+        InMemoryLoginAttemptStore store = store(2);
+        fail(store, "u:a", LOCKED);
+        fail(store, "u:b", LOCKED);
+
+        for (int i = 0; i < 100; i++) {
+            fail(store, "u:random" + i, 1);
+        }
+
+        assertThat(store.failures("u:a")).isEqualTo(LOCKED);
+        assertThat(store.failures("u:b")).isEqualTo(LOCKED);
+        assertThat(store.failures("u:random0")).isZero();
+        assertThat(meterRegistry.get("login.throttle.memory.rejected").counter().count()).isEqualTo(100);
+    }
+
+    private static void fail(InMemoryLoginAttemptStore store, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            store.recordFailure(key);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.api.service;
+
+import com.example.api.dto.LoginRequest;
+import com.example.api.dto.LoginResponse;
+import com.example.api.entity.User;
+import com.example.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AuthService 의 회원 측 SQL 실행 횟수 검증
+ * (리프레시 토큰 저장소는 SQL 이 없는 local 구현체를 사용해 회원 조회만 집계)
+ * 해시 풀은 2스레드로 줄여 풀 크기보다 많은 동시 로그인을 재현한다.
+ */
+@SpringBootTest(properties = {
+        "refresh-token.store=local",
+        "session-events.bus=local",
+        "jwt.secret-key=c3ByaW5nLWJvb3QtYXBpLXRlbXBsYXRlLXRlc3Qtc2VjcmV0LWtleSE=",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "security.password.hash-executor.pool-size=" + AuthServiceTest.HASH_POOL_SIZE
+})
+@Transactional
+class AuthServiceTest {
+
+    static final int HASH_POOL_SIZE = 2;
+
+    private static final String PASSWORD = "Password1!";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void refresh_회원_조회는_SQL_1회() {
+        User user = userRepository.saveAndFlush(
+                User.create("refresh_owner", "{noop}password", "갱신주인", "refresh_owner@example.com"));
+        entityManager.clear();
+        refreshTokenStore.save("refresh-statement-count", user.getPublicId(), Instant.now().plusSeconds(60));
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        LoginResponse response = authService.refresh("refresh-statement-count");
+
+        assertThat(response.accessToken()).isNotBlank();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    /**
+     * 풀 크기보다 많은 기존 BCrypt 회원이 동시에 로그인해도 재해시가 해시 풀을 멈추지 않는다.
+     * 검증 완료 콜백이 다른 스레드에서 회원을 읽고 갱신하므로 테스트 트랜잭션 없이 실행하고, 만든 회원은 직접 삭제한다.
+     */
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void loginAsync_풀_크기보다_많은_동시_재해시_로그인도_완료() throws Exception {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i <= HASH_POOL_SIZE; i++) {
+            users.add(userRepository.saveAndFlush(User.create(
+                    "rehash_" + i, bcrypt.encode(PASSWORD), "재해시" + i, "rehash_" + i + "@example.com")));
+        }
+
+        try {
+            List<CompletableFuture<LoginResponse>> logins = users.stream()
+                    .map(user -> authService.loginAsync(new LoginRequest(user.getUsername(), PASSWORD), "127.0.0.1"))
+                    .toList();
+            CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+            // 재해시는 응답과 별도로 끝나므로 완료를 기다린다.
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (countRehashed() < users.size() && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(countRehashed()).isEqualTo(users.size());
+        } finally {
+            jdbcTemplate.update("delete from user_roles where user_id in (select id from users where username like 'rehash\\_%' escape '\\')");
+            jdbcTemplate.update("delete from users where username like 'rehash\\_%' escape '\\'");
+        }
+    }
+
+    private long countRehashed() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from users where username like 'rehash\\_%' escape '\\' and password like '{argon2}%'",
+                Long.class);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.api.service;
+
+import com.example.api.entity.User;
+import com.example.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JpaRefreshTokenStore 의 연산별 SQL 실행 횟수 검증
+ */
+@DataJpaTest(properties = {
+        "refresh-token.store=jpa",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(JpaRefreshTokenStore.class)
+class JpaRefreshTokenStoreTest {
+
+    @Autowired
+    private JpaRefreshTokenStore store;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.saveAndFlush(
+                User.create("token_owner", "{noop}password", "토큰주인", "token_owner@example.com"));
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void save_조회는_PK_프로젝션_1회와_INSERT_1회() {
+        statistics.clear();
+
+        store.save("token-save", user.getPublicId(), Instant.now().plusSeconds(60));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findByToken_은_조인_쿼리_1회() {
+        store.save("token-find", user.getPublicId(), Instant.now().plusSeconds(60));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        RefreshTokenStore.TokenInfo info = store.findByToken("token-find").orElseThrow();
+
+        assertThat(info.publicId()).isEqualTo(user.getPublicId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void deleteByToken_은_DELETE_1회() {
+        store.save("token-delete", user.getPublicId(), Instant.now().plusSeconds(60));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        store.deleteByToken("token-delete");
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(store.findByToken("token-delete")).isEmpty();
+    }
+
+    @Test
+    void deleteByPublicId_는_DELETE_1회() {
+        store.save("token-all-1", user.getPublicId(), Instant.now().plusSeconds(60));
+        store.save("token-all-2", user.getPublicId(), Instant.now().plusSeconds(60));
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        store.deleteByPublicId(user.getPublicId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(store.findByToken("token-all-1")).isEmpty();
+        assertThat(store.findByToken("token-all-2")).isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.api.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalTokenTable 의 사용자별 인덱스(슬롯 연결 리스트) 검증
+ */
+class LocalTokenTableTest {
+
+    private static final long OWNER_A_MSB = 0x0190_0000_0000_7000L;
+    private static final long OWNER_A_LSB = 0x8000_0000_0000_0001L;
+    private static final long OWNER_B_MSB = 0x0190_0000_0000_7000L;
+    private static final long OWNER_B_LSB = 0x8000_0000_0000_0002L;
+
+    @Test
+    void removeByOwner는_해당_사용자_엔트리만_삭제() {
+        LocalTokenTable table = new LocalTokenTable(4);
+        for (long k = 1; k <= 100; k++) {
+            boolean ownerA = k % 2 == 0;
+            table.put(k, -k, OWNER_A_MSB, ownerA ? OWNER_A_LSB : OWNER_B_LSB, k);
+        }
+
+        assertThat(table.removeByOwner(OWNER_A_MSB, OWNER_A_LSB)).isEqualTo(50);
+
+        assertThat(table.size()).isEqualTo(50);
+        assertThat(table.ownerCount()).isEqualTo(1);
+        assertThat(table.find(2, -2)).isNegative();
+        assertThat(table.find(1, -1)).isNotNegative();
+        assertThat(table.removeByOwner(OWNER_A_MSB, OWNER_A_LSB)).isZero();
+    }
+
+    @Test
+    void 건별_삭제와_소유자_변경_후에도_인덱스_유지() {
+        LocalTokenTable table = new LocalTokenTable(4);
+        table.put(1, 1, OWNER_A_MSB, OWNER_A_LSB, 0);
+        table.put(2, 2, OWNER_A_MSB, OWNER_A_LSB, 0);
+        table.put(3, 3, OWNER_A_MSB, OWNER_A_LSB, 0);
+
+        table.removeAt(table.find(2, 2));
+        table.put(3, 3, OWNER_B_MSB, OWNER_B_LSB, 0);
+
+        assertThat(table.removeByOwner(OWNER_A_MSB, OWNER_A_LSB)).isEqualTo(1);
+        assertThat(table.removeByOwner(OWNER_B_MSB, OWNER_B_LSB)).isEqualTo(1);
+        assertThat(table.size()).isZero();
+        assertThat(table.ownerCount()).isZero();
+    }
+}
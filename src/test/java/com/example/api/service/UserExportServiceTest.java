@@ -0,0 +1,180 @@
+package com.example.api.service;
+
+import com.example.api.dto.UserResponse;
+import com.example.api.entity.User;
+import com.example.api.exception.ResponseAbortedException;
+import com.example.api.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원 내보내기 출력 형식 검증 (data.sql 초기 데이터 + 쉼표·따옴표가 들어간 회원)
+ */
+@SpringBootTest(properties = {
+        "refresh-token.store=local",
+        "session-events.bus=local",
+        "jwt.secret-key=c3ByaW5nLWJvb3QtYXBpLXRlbXBsYXRlLXRlc3Qtc2VjcmV0LWtleSE=",
+        "user-profile-cache.l2.store=none",
+        "user-export.fetch-size=2",
+        "user-export.flush-rows=3"
+})
+@Transactional
+class UserExportServiceTest {
+
+    /** data.sql 의 admin 계정 */
+    private static final String ADMIN_PUBLIC_ID = "019cf572-2930-7cea-b8b2-9927b06f1203";
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User quoted;
+
+    @BeforeEach
+    void setUp() {
+        quoted = userRepository.saveAndFlush(
+                User.create("export_quote", "{noop}password", "김, \"따옴표\"", "export_quote@example.com"));
+        entityManager.clear();
+    }
+
+    @Test
+    void NDJSON_회원당_1줄_응답_DTO_로_복원() {
+        StringWriter out = new StringWriter();
+
+        long exported = userExportService.exportUsers(UserExportService.APPLICATION_NDJSON, out);
+
+        List<UserResponse> users = out.toString().lines()
+                .map(line -> objectMapper.readValue(line, UserResponse.class))
+                .toList();
+        assertThat(exported).isEqualTo(userRepository.count()).isEqualTo(users.size());
+        assertThat(users).filteredOn(user -> user.username().equals("admin"))
+                .singleElement()
+                .satisfies(admin -> assertThat(admin.roles()).containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN"));
+        assertThat(users).filteredOn(user -> user.username().equals("export_quote"))
+                .singleElement()
+                .satisfies(user -> {
+                    assertThat(user.id()).isEqualTo(quoted.getPublicId().toString());
+                    assertThat(user.name()).isEqualTo("김, \"따옴표\"");
+                    assertThat(user.email()).isEqualTo("export_quote@example.com");
+                    assertThat(user.roles()).containsExactly("ROLE_USER");
+                    assertThat(user.version()).isZero();
+                });
+    }
+
+    @Test
+    void CSV_헤더와_RFC4180_따옴표_처리() {
+        StringWriter out = new StringWriter();
+
+        long exported = userExportService.exportUsers(UserExportService.TEXT_CSV, out);
+
+        List<String> lines = out.toString().lines().toList();
+        assertThat(lines).hasSize((int) exported + 1);
+        assertThat(lines.getFirst()).isEqualTo("id,username,name,email,roles,createDate");
+        assertThat(lines).filteredOn(line -> line.contains(",admin,"))
+                .singleElement()
+                .asString()
+                .startsWith(ADMIN_PUBLIC_ID + ",admin,관리자,admin@example.com,ROLE_ADMIN;ROLE_USER,");
+        assertThat(lines).filteredOn(line -> line.contains(",export_quote,"))
+                .singleElement()
+                .asString()
+                .startsWith(quoted.getPublicId() + ",export_quote,\"김, \"\"따옴표\"\"\",export_quote@example.com,ROLE_USER,");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "NULL", value = {
+            "gzip                  | true",
+            "deflate, gzip;q=0.5   | true",
+            "*                     | true",
+            "gzip;q=0              | false",
+            "gzip; q=0.000         | false",
+            "br, deflate           | false",
+            "NULL                  | false"
+    })
+    void acceptsGzip_q_값과_와일드카드_처리(String acceptEncoding, boolean expected) {
+        assertThat(UserExportService.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+
+    @Test
+    void gzip_요청이면_압축해서_전송() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/export");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        userExportService.exportTo(request, response);
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(response.getContentType()).startsWith(UserExportService.APPLICATION_NDJSON.toString());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            List<String> lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+            assertThat(lines).hasSize((int) userRepository.count());
+        }
+    }
+
+    @Test
+    void 응답_커밋_후_실패하면_ResponseAbortedException() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> userExportService.writeResponse(new MockHttpServletRequest(), response,
+                UserExportService.APPLICATION_NDJSON, writer -> {
+                    write(writer, "{}\n", true);
+                    throw new IllegalStateException("serialization failed");
+                }))
+                .isInstanceOf(ResponseAbortedException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(response.isCommitted()).isTrue();
+    }
+
+    @Test
+    void 응답_커밋_전_실패는_원래_예외로_전파() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> userExportService.writeResponse(new MockHttpServletRequest(), response,
+                UserExportService.APPLICATION_NDJSON, writer -> {
+                    write(writer, "{}\n", false);
+                    throw new IllegalStateException("query failed");
+                }))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(response.isCommitted()).isFalse();
+    }
+
+    private static void write(Writer writer, String value, boolean flush) {
+        try {
+            writer.write(value);
+            if (flush) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
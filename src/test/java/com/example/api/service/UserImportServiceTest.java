@@ -0,0 +1,126 @@
+package com.example.api.service;
+
+import com.example.api.dto.UserImportRowResult;
+import com.example.api.dto.UserImportSummary;
+import com.example.api.exception.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 회원 일괄 등록 행 단위 결과 검증 (data.sql 초기 데이터와의 중복 포함)
+ * 청크 단위 커밋을 그대로 검증하기 위해 테스트 트랜잭션 없이 실행하고, 등록한 회원은 테스트 후 삭제한다.
+ */
+@SpringBootTest(properties = {
+        "refresh-token.store=local",
+        "session-events.bus=local",
+        "jwt.secret-key=c3ByaW5nLWJvb3QtYXBpLXRlbXBsYXRlLXRlc3Qtc2VjcmV0LWtleSE=",
+        "user-profile-cache.l2.store=none",
+        "security.password.encoding-id=bcrypt",
+        "security.password.bcrypt.strength=4",
+        "user-import.batch-size=3"
+})
+class UserImportServiceTest {
+
+    private static final String PASSWORD = "Password1!";
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from user_roles where user_id in (select id from users where username like 'imp\\_%' escape '\\')");
+        jdbcTemplate.update("delete from users where username like 'imp\\_%' escape '\\'");
+    }
+
+    @Test
+    void NDJSON_정상_검증실패_형식오류_중복_행별_결과와_요약() throws IOException {
+        String body = String.join("\n",
+                json("imp_a", PASSWORD, "imp_a@example.com", "가나다"),
+                json("imp_weak", "weak", "imp_weak@example.com", "가나다"),
+                "null",
+                "[1, 2]",
+                "{",
+                json("imp_a", PASSWORD, "imp_a2@example.com", "가나다"),
+                json("admin", PASSWORD, "imp_admin@example.com", "가나다"),
+                "",
+                json("imp_b", PASSWORD, "imp_b@example.com", "라마바"));
+
+        List<UserImportRowResult> results = new ArrayList<>();
+        UserImportSummary summary = importUsers(body, UserImportService.APPLICATION_NDJSON, results);
+
+        assertThat(results)
+                .extracting(UserImportRowResult::line, UserImportRowResult::status, UserImportRowResult::username, UserImportRowResult::code)
+                .containsExactly(
+                        tuple(1L, UserImportRowResult.Status.CREATED, "imp_a", null),
+                        tuple(2L, UserImportRowResult.Status.FAILED, "imp_weak", ErrorCode.INVALID_INPUT_VALUE.getCode()),
+                        tuple(3L, UserImportRowResult.Status.FAILED, null, ErrorCode.INVALID_INPUT_VALUE.getCode()),
+                        tuple(4L, UserImportRowResult.Status.FAILED, null, ErrorCode.INVALID_INPUT_VALUE.getCode()),
+                        tuple(5L, UserImportRowResult.Status.FAILED, null, ErrorCode.INVALID_INPUT_VALUE.getCode()),
+                        tuple(6L, UserImportRowResult.Status.FAILED, "imp_a", ErrorCode.DUPLICATE_USERNAME.getCode()),
+                        tuple(7L, UserImportRowResult.Status.FAILED, "admin", ErrorCode.DUPLICATE_USERNAME.getCode()),
+                        tuple(9L, UserImportRowResult.Status.CREATED, "imp_b", null));
+        assertThat(summary.total()).isEqualTo(8);
+        assertThat(summary.created()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(6);
+        assertThat(countImported()).isEqualTo(2);
+    }
+
+    @Test
+    void CSV_헤더_순서대로_매핑하고_따옴표_필드를_해석() throws IOException {
+        String body = String.join("\r\n",
+                "name,email,username,password",
+                "\"홍, \"\"길동\"\"\",imp_c@example.com,imp_c," + PASSWORD,
+                "가나다,imp_d@example.com,imp_d",
+                "가나다,admin@example.com,imp_e," + PASSWORD,
+                "라마바,imp_f@example.com,imp_f," + PASSWORD);
+
+        List<UserImportRowResult> results = new ArrayList<>();
+        UserImportSummary summary = importUsers(body, UserImportService.TEXT_CSV, results);
+
+        assertThat(results)
+                .extracting(UserImportRowResult::line, UserImportRowResult::status, UserImportRowResult::code)
+                .containsExactly(
+                        tuple(2L, UserImportRowResult.Status.CREATED, null),
+                        tuple(3L, UserImportRowResult.Status.FAILED, ErrorCode.INVALID_INPUT_VALUE.getCode()),
+                        tuple(4L, UserImportRowResult.Status.FAILED, ErrorCode.DUPLICATE_EMAIL.getCode()),
+                        tuple(5L, UserImportRowResult.Status.CREATED, null));
+        assertThat(summary.total()).isEqualTo(4);
+        assertThat(summary.created()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("select name from users where username = 'imp_c'", String.class))
+                .isEqualTo("홍, \"길동\"");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from user_roles r join users u on u.id = r.user_id where u.username = 'imp_c'", Long.class))
+                .isEqualTo(1);
+    }
+
+    private UserImportSummary importUsers(String body, MediaType contentType,
+                                          List<UserImportRowResult> results) throws IOException {
+        return userImportService.importUsers(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), contentType, results::add);
+    }
+
+    private long countImported() {
+        return jdbcTemplate.queryForObject("select count(*) from users where username like 'imp\\_%' escape '\\'", Long.class);
+    }
+
+    private static String json(String username, String password, String email, String name) {
+        return """
+                {"username":"%s","password":"%s","email":"%s","name":"%s"}""".formatted(username, password, email, name);
+    }
+}
@@ -0,0 +1,367 @@
+package com.example.api.service;
+
+import com.example.api.dto.PageParam;
+import com.example.api.dto.PageResponse;
+import com.example.api.dto.UserPageParam;
+import com.example.api.dto.UserResponse;
+import com.example.api.dto.UserRole;
+import com.example.api.dto.UserUpdateRequest;
+import com.example.api.entity.User;
+import com.example.api.exception.BusinessException;
+import com.example.api.exception.ErrorCode;
+import com.example.api.repository.UserProfileRow;
+import com.example.api.repository.UserRepository;
+import com.example.api.repository.UserSearchCondition;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원 조회 SQL 실행 횟수 검증 (data.sql 초기 데이터 사용)
+ * 목록은 페이지 크기와 무관하게 id 조회 1회 + 회원·권한 조회 1회로 고정되어야 하며, 조회 경로는 엔티티를 만들지 않는다.
+ * 프로필 수정은 버전 충돌(409)·없는 회원(404) 구분과 변경된 컬럼만 UPDATE 하는지 검증한다.
+ */
+@SpringBootTest(properties = {
+        "refresh-token.store=local",
+        "session-events.bus=local",
+        "jwt.secret-key=c3ByaW5nLWJvb3QtYXBpLXRlbXBsYXRlLXRlc3Qtc2VjcmV0LWtleSE=",
+        "pagination.count-cache.enabled=false",
+        "user-profile-cache.l2.store=none",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.api.service.UserServiceTest$SqlCapture"
+})
+@Transactional
+class UserServiceTest {
+
+    /** data.sql 의 admin 계정 */
+    private static final UUID ADMIN_PUBLIC_ID = UUID.fromString("019cf572-2930-7cea-b8b2-9927b06f1203");
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserProfileCache userProfileCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.clear();
+        userProfileCache.invalidate(ADMIN_PUBLIC_ID);
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        SqlCapture.STATEMENTS.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20, 100})
+    void readUsers_페이지_크기와_무관하게_SQL_2회(int size) {
+        UserPageParam pageParam = new UserPageParam();
+        pageParam.setSize(size);
+
+        PageResponse<UserResponse> response = userService.readUsers(pageParam);
+
+        assertThat(response.content()).isNotEmpty().allSatisfy(user -> assertThat(user.roles()).isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    void readUsers_커서_모드도_SQL_2회(int size) {
+        UserPageParam first = new UserPageParam();
+        first.setSize(size);
+        first.setMode(PageParam.Mode.CURSOR);
+        PageResponse<UserResponse> firstPage = userService.readUsers(first);
+
+        UserPageParam next = new UserPageParam();
+        next.setSize(size);
+        next.setCursor(firstPage.nextCursor());
+        entityManager.clear();
+        statistics.clear();
+
+        PageResponse<UserResponse> nextPage = userService.readUsers(next);
+
+        assertThat(nextPage.content()).isNotEmpty().allSatisfy(user -> assertThat(user.roles()).isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void readUsers_전체_개수_요청_시_COUNT_1회_추가() {
+        UserPageParam pageParam = new UserPageParam();
+        pageParam.setSize(5);
+        pageParam.setWithTotal(true);
+
+        PageResponse<UserResponse> response = userService.readUsers(pageParam);
+
+        assertThat(response.totalElements()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void readUsers_필터_조합() {
+        UserPageParam byRole = new UserPageParam();
+        byRole.setRole(UserRole.ADMIN);
+        assertThat(userService.readUsers(byRole).content()).extracting(UserResponse::username).containsExactly("admin");
+
+        UserPageParam byPrefixAndDomain = new UserPageParam();
+        byPrefixAndDomain.setUsername("username1");
+        byPrefixAndDomain.setEmailDomain("@GMAIL.com");
+        byPrefixAndDomain.setSize(100);
+        assertThat(userService.readUsers(byPrefixAndDomain).content()).extracting(UserResponse::username)
+                .allSatisfy(username -> assertThat(username).startsWith("username1"))
+                .contains("username1", "username10");
+
+        UserPageParam byDomain = new UserPageParam();
+        byDomain.setEmailDomain("example.com");
+        assertThat(userService.readUsers(byDomain).content()).extracting(UserResponse::username).containsExactly("admin");
+    }
+
+    @Test
+    void readUsers_가입일_커서는_같은_가입일도_누락_중복_없이_이어본다() {
+        UserPageParam all = new UserPageParam();
+        all.setSize(100);
+        List<String> expected = userService.readUsers(all).content().stream().map(UserResponse::id).toList();
+
+        List<String> collected = new ArrayList<>();
+        String cursor = null;
+        do {
+            UserPageParam pageParam = new UserPageParam();
+            pageParam.setSort(UserPageParam.SortField.CREATE_DATE);
+            pageParam.setMode(PageParam.Mode.CURSOR);
+            pageParam.setSize(3);
+            pageParam.setCursor(cursor);
+            PageResponse<UserResponse> page = userService.readUsers(pageParam);
+            page.content().forEach(user -> collected.add(user.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertThat(collected).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void findSlice_가입일_내림차순은_같은_가입일도_id_내림차순() {
+        for (int i = 0; i < 3; i++) {
+            userRepository.save(User.create("same_ts_" + i, "{noop}password", "같은시각" + i, "same_ts_" + i + "@example.com"));
+        }
+        userRepository.flush();
+        jdbcTemplate.update("update users set create_date = ? where username like 'same!_ts!_%' escape '!'",
+                LocalDateTime.of(2024, 1, 1, 0, 0));
+        entityManager.clear();
+
+        List<UserProfileRow> rows = userRepository.findSlice(
+                new UserSearchCondition("same_ts_", null, null, null, null),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createDate"))).getContent();
+
+        assertThat(rows).hasSize(3).extracting(UserProfileRow::id).isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void readMyProfile_엔티티_로딩_없이_SQL_1회() {
+        UserResponse response = userService.readMyProfile(ADMIN_PUBLIC_ID);
+
+        assertThat(response.username()).isEqualTo("admin");
+        assertThat(response.roles()).contains("ROLE_ADMIN", "ROLE_USER");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void readMyProfile_두번째_조회는_캐시에서_SQL_0회() {
+        UserResponse loaded = userService.readMyProfile(ADMIN_PUBLIC_ID);
+        statistics.clear();
+
+        UserResponse cached = userService.readMyProfile(ADMIN_PUBLIC_ID);
+
+        assertThat(cached).isEqualTo(loaded);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void 프로필_캐시_바이너리_직렬화_왕복() {
+        UserResponse response = userService.readMyProfile(ADMIN_PUBLIC_ID);
+
+        assertThat(UserProfileCache.decode(UserProfileCache.encode(response))).isEqualTo(response);
+    }
+
+    @Test
+    void updateMyProfile_버전이_같으면_수정하고_버전_증가() {
+        authenticate(ADMIN_PUBLIC_ID);
+
+        UserResponse response = userService.updateMyProfile(new UserUpdateRequest("admin@example.com", "관리자2", 0L));
+
+        assertThat(response.name()).isEqualTo("관리자2");
+        assertThat(response.version()).isEqualTo(1L);
+    }
+
+    @Test
+    void updateMyProfile_이전_버전이면_USER_VERSION_CONFLICT() {
+        authenticate(ADMIN_PUBLIC_ID);
+        userService.updateMyProfile(new UserUpdateRequest("admin@example.com", "관리자2", 0L));
+
+        assertThatThrownBy(() -> userService.updateMyProfile(new UserUpdateRequest("admin@example.com", "관리자3", 0L)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.USER_VERSION_CONFLICT));
+    }
+
+    @Test
+    void updateMyProfile_없는_회원이면_버전과_무관하게_USER_NOT_FOUND() {
+        authenticate(UUID.fromString("019cf572-2930-7cea-b8b2-000000000000"));
+
+        assertThatThrownBy(() -> userService.updateMyProfile(new UserUpdateRequest("nobody@example.com", "없는회원", 0L)))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.USER_NOT_FOUND));
+    }
+
+    @Test
+    void updateMyProfile_엔티티_경로는_변경된_컬럼만_UPDATE() {
+        authenticate(ADMIN_PUBLIC_ID);
+
+        userService.updateMyProfile(new UserUpdateRequest("admin@example.com", "관리자2", null));
+
+        assertThat(SqlCapture.STATEMENTS).filteredOn(sql -> sql.contains("update users"))
+                .singleElement()
+                .asString()
+                .contains("name=?", "version=?")
+                .doesNotContain("password", "email", "username");
+    }
+
+    /**
+     * 두 요청이 같은 버전을 읽은 뒤 차례로 커밋하도록 맞춘다. (먼저 커밋한 쪽만 성공)
+     * 각 요청이 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션 없이 실행하고, 만든 회원은 직접 삭제한다.
+     */
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void updateMyProfile_동시_엔티티_수정은_하나만_USER_VERSION_CONFLICT() throws Exception {
+        User user = userRepository.saveAndFlush(
+                User.create("concurrent_edit", "{noop}password", "동시수정", "concurrent_edit@example.com"));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch bothRead = new CountDownLatch(2);
+            CountDownLatch firstCommitted = new CountDownLatch(1);
+
+            Future<ErrorCode> first = executor.submit(
+                    () -> updateAfterRead(user.getPublicId(), "첫번째", bothRead, null, firstCommitted));
+            Future<ErrorCode> second = executor.submit(
+                    () -> updateAfterRead(user.getPublicId(), "두번째", bothRead, firstCommitted, null));
+
+            assertThat(Arrays.asList(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS)))
+                    .containsExactly(null, ErrorCode.USER_VERSION_CONFLICT);
+            assertThat(jdbcTemplate.queryForObject("select name from users where id = ?", String.class, user.getId()))
+                    .isEqualTo("첫번째");
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("delete from user_roles where user_id = ?", user.getId());
+            jdbcTemplate.update("delete from users where id = ?", user.getId());
+        }
+    }
+
+    /**
+     * 엔티티를 먼저 읽어 영속성 컨텍스트에 둔 뒤(수정 시 그 버전이 쓰임) 상대 요청을 기다렸다가 수정한다.
+     *
+     * @return 실패 코드, 성공이면 null
+     */
+    private ErrorCode updateAfterRead(UUID publicId, String name, CountDownLatch bothRead,
+                                      CountDownLatch waitFor, CountDownLatch committed) {
+        authenticate(publicId);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                userRepository.findWithRolesByPublicId(publicId);
+                bothRead.countDown();
+                await(bothRead);
+                if (waitFor != null) {
+                    await(waitFor);
+                }
+                userService.updateMyProfile(new UserUpdateRequest("concurrent_edit@example.com", name, null));
+            });
+            return null;
+        } catch (BusinessException e) {
+            return e.getErrorCode();
+        } finally {
+            if (committed != null) {
+                committed.countDown();
+            }
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static void authenticate(UUID publicId) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(publicId.toString(), null, List.of()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 실행된 SQL 수집 (hibernate.session_factory.statement_inspector)
+     */
+    public static class SqlCapture implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}